@@ -0,0 +1,175 @@
+package org.tests.desempenho;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH dos caminhos quentes do {@link SimulationEngine}: {@code phisycsUpdate()},
+ * {@code update()}, {@code checkCluster()} e {@code thiefNeighbor()}.
+ *
+ * <p>Cada método é medido para populações de 10, 1.000 e 100.000 criaturas, em duas
+ * densidades (criaturas por pixel de largura: 0,01 deixa quase todas isoladas e 1 junta
+ * todas em grupos) e com os modos indexados do motor desligados ou ligados. Os métodos que
+ * alteram a população ({@code update()} e {@code checkCluster()}) recebem, a cada
+ * invocação, a população original restaurada no lugar, sem alocar.</p>
+ *
+ * <p>Compilar e executar (a taxa de alocação vem do profiler de GC):</p>
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar SimulationHotPathsBenchmark -prof gc
+ * </pre>
+ *
+ * <p>O {@code checkCluster()} original é quadrático; para medir apenas os modos indexados
+ * nas populações grandes, use {@code -p indexed=true}.</p>
+ *
+ * @see SimulationEngine
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulationHotPathsBenchmark {
+
+    /** Altura da área da simulação. */
+    private static final int HEIGHT = 480;
+
+    /** Semente fixa, para que todas as execuções usem a mesma população. */
+    private static final long SEED = 42L;
+
+    /**
+     * Motor populado uma única vez por execução, para os métodos que mantêm a população.
+     */
+    @State(Scope.Thread)
+    public static class Population {
+
+        /** Quantidade de criaturas. */
+        @Param({"10", "1000", "100000"})
+        public int population;
+
+        /** Criaturas por pixel de largura. */
+        @Param({"0.01", "1"})
+        public double density;
+
+        /** Se os modos indexados (roubo, agrupamento e guardião) estão ligados. */
+        @Param({"false", "true"})
+        public boolean indexed;
+
+        /** Motor medido. */
+        public SimulationEngine engine;
+
+        /** Criaturas originais, na ordem original. */
+        private Creature[] original;
+
+        /** Campos originais de cada criatura. */
+        private int[] x, y, spdX, spdY, target;
+        private double[] gold;
+        private boolean[] canMove, canTheft;
+
+        /** Próximo ladrão usado em {@link #thiefNeighbor(Population)}. */
+        int cursor;
+
+        @Setup(Level.Trial)
+        public void populate() {
+            int width = Math.max(720, (int) (population / density)) + SimulationEngine.CREATURE_SIZE;
+            engine = new SimulationEngine(width, HEIGHT, SEED);
+            engine.setIndexedTheft(indexed);
+            engine.setSweepClustering(indexed);
+            engine.setIndexedGuardian(indexed);
+            engine.populate(population);
+
+            List<Creature> creatures = engine.Creatures;
+            int n = creatures.size();
+            original = creatures.toArray(new Creature[0]);
+            x = new int[n];
+            y = new int[n];
+            spdX = new int[n];
+            spdY = new int[n];
+            target = new int[n];
+            gold = new double[n];
+            canMove = new boolean[n];
+            canTheft = new boolean[n];
+            for (int i = 0; i < n; i++) {
+                Creature c = original[i];
+                x[i] = c.x;
+                y[i] = c.y;
+                spdX[i] = c.spdX;
+                spdY[i] = c.spdY;
+                target[i] = c.target;
+                gold[i] = c.gold;
+                canMove[i] = c.canMove;
+                canTheft[i] = c.canTheft;
+            }
+        }
+
+        /**
+         * Devolve o motor à população original, reaproveitando as mesmas criaturas.
+         */
+        protected void restore() {
+            List<Creature> creatures = engine.Creatures;
+            creatures.clear();
+            for (int i = 0; i < original.length; i++) {
+                Creature c = original[i];
+                c.x = x[i];
+                c.y = y[i];
+                c.spdX = spdX[i];
+                c.spdY = spdY[i];
+                c.target = target[i];
+                c.gold = gold[i];
+                c.canMove = canMove[i];
+                c.canTheft = canTheft[i];
+                c.isCluster = false;
+                c.isGuardian = false;
+                creatures.add(c);
+            }
+            // Os índices do motor não acompanham alterações feitas direto na lista.
+            engine.setIndexedTheft(indexed);
+            engine.setIndexedGuardian(indexed);
+            cursor = 0;
+        }
+
+        @Setup(Level.Iteration)
+        public void restoreIteration() {
+            restore();
+        }
+    }
+
+    /**
+     * Motor restaurado antes de cada invocação, para os métodos que alteram a população.
+     */
+    @State(Scope.Thread)
+    public static class FreshPopulation extends Population {
+
+        @Setup(Level.Invocation)
+        public void restoreInvocation() {
+            restore();
+        }
+    }
+
+    @Benchmark
+    public boolean phisycsUpdate(Population state) {
+        return state.engine.phisycsUpdate();
+    }
+
+    @Benchmark
+    public boolean thiefNeighbor(Population state) {
+        List<Creature> creatures = state.engine.Creatures;
+        Creature thief = creatures.get(state.cursor);
+        state.cursor = (state.cursor + 1) % creatures.size();
+        return state.engine.thiefNeighbor(thief);
+    }
+
+    @Benchmark
+    public boolean update(FreshPopulation state) {
+        return state.engine.update();
+    }
+
+    @Benchmark
+    public boolean checkCluster(FreshPopulation state) {
+        return state.engine.checkCluster();
+    }
+}
@@ -0,0 +1,101 @@
+package org.tests.desempenho;
+
+import org.example.model.Creature;
+import org.example.model.SpatialIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da busca da vizinha mais próxima usada no roubo: busca linear original
+ * (O(n) por ladrão, O(n²) por rodada) contra o {@link SpatialIndex} (O(log n) por ladrão).
+ *
+ * <p>Cada invocação faz uma busca, para um ladrão diferente a cada vez, em populações de
+ * 1.000, 10.000 e 100.000 criaturas; {@code rebuild} mede a reconstrução do índice, paga uma
+ * vez por rodada de roubo. O custo de uma rodada completa é n buscas mais uma
+ * reconstrução.</p>
+ *
+ * <pre>
+ * mvn -P jmh package
+ * java -jar target/benchmarks.jar ThiefBenchmark
+ * </pre>
+ *
+ * @see SpatialIndex
+ * @see SimulationHotPathsBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ThiefBenchmark {
+
+    /** Largura da área usada para sortear as posições. */
+    private static final int WIDTH = 720;
+
+    /** Quantidade de criaturas. */
+    @Param({"1000", "10000", "100000"})
+    public int population;
+
+    /** Criaturas em posições sorteadas com semente fixa. */
+    private List<Creature> creatures;
+
+    /** Índice construído sobre {@link #creatures}. */
+    private SpatialIndex index;
+
+    /** Próximo ladrão. */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        Random rand = new Random(population);
+        creatures = new ArrayList<>(population);
+        for (int i = 0; i < population; i++) {
+            creatures.add(new Creature(rand.nextInt(WIDTH - 50), 0, 1, 0, null));
+        }
+        index = new SpatialIndex();
+        index.rebuild(creatures);
+    }
+
+    /** Índice do próximo ladrão, percorrendo a população em passos primos entre si com n. */
+    private int nextThief() {
+        cursor = (cursor + 7919) % population;
+        return cursor;
+    }
+
+    @Benchmark
+    public int linearScan() {
+        int thiefIndex = nextThief();
+        Creature thief = creatures.get(thiefIndex);
+        int closerIndex = 0;
+        int closest = WIDTH - 50;
+        int index = 0;
+        // Mesma regra de thiefNeighbor na busca linear (sem pontuação).
+        for (Creature neighbor : creatures) {
+            if (thief != neighbor && !neighbor.isGuardian) {
+                int d = Math.abs(thief.x - neighbor.x);
+                if (d <= closest) {
+                    closest = d;
+                    closerIndex = index;
+                }
+            }
+            index++;
+        }
+        return closerIndex;
+    }
+
+    @Benchmark
+    public int indexNearest() {
+        return index.nearest(nextThief());
+    }
+
+    @Benchmark
+    public SpatialIndex rebuild() {
+        index.rebuild(creatures);
+        return index;
+    }
+}
@@ -2,6 +2,7 @@ package org.example;
 
 import org.example.controller.LoginController;
 import org.example.controller.SimulationController;
+import org.example.model.SQLiteDataSource;
 
 import java.sql.SQLException;
 
@@ -12,10 +13,15 @@ public class Main {
 
     public static LoginController login;
 
+    /** Fonte de conexões com o banco, criada uma única vez e compartilhada pelos controladores. */
+    public static SQLiteDataSource dataSource;
+
     public static void main(String[] args) {
         javax.swing.SwingUtilities.invokeLater(() -> {
             try {
-                login = new LoginController();
+                dataSource = new SQLiteDataSource();
+                Runtime.getRuntime().addShutdownHook(new Thread(dataSource::close));
+                login = new LoginController(dataSource);
             } catch (SQLException e) {
                 throw new RuntimeException(e);
             }
@@ -1,6 +1,7 @@
 package org.example.controller;
 
 import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
 import org.example.model.User;
 import org.example.view.LoginView;
 
@@ -26,19 +27,30 @@ public class LoginController {
     /** Instância do banco de dados SQLite para manipulação de dados de usuário. */
     private SQLite bd;
 
+    /** Fonte de conexões compartilhada, repassada às próximas telas. */
+    private SQLiteDataSource dataSource;
+
     /**
      * Construtor padrão do LoginController.
      * Inicializa a visualização, conexão com o banco de dados e os listeners dos botões.
+     *
+     * @param dataSource Fonte de conexões da aplicação.
      */
-    public LoginController() throws SQLException {
-        bd = new SQLite();
+    public LoginController(SQLiteDataSource dataSource) throws SQLException {
+        this.dataSource = dataSource;
+        bd = new SQLite(dataSource);
         view = new LoginView();
         initListeners();
     }
 
     public LoginController(LoginView view, SQLite bd) {
+        this(view, bd, null);
+    }
+
+    public LoginController(LoginView view, SQLite bd, SQLiteDataSource dataSource) {
         this.view = view;
         this.bd = bd;
+        this.dataSource = dataSource;
         //initListeners();
     }
 
@@ -123,7 +135,7 @@ public class LoginController {
             view.dispose();
             javax.swing.SwingUtilities.invokeLater(() -> {
                 try {
-                    user = new UserController(log);
+                    user = new UserController(log, dataSource);
                 } catch (SQLException e) {
                     throw new RuntimeException(e);
                 }
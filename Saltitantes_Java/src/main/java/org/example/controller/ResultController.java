@@ -1,6 +1,7 @@
 package org.example.controller;
 
 import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
 import org.example.model.User;
 import org.example.view.ResultView;
 
@@ -30,14 +31,19 @@ public class ResultController {
     /** Usuário atualmente autenticado. */
     private User user;
 
+    /** Fonte de conexões compartilhada, repassada às próximas telas. */
+    private final SQLiteDataSource dataSource;
+
     /**
      * Construtor do controlador da tela de resultados.
      *
-     * @param user Usuário logado que visualizou a simulação.
+     * @param user       Usuário logado que visualizou a simulação.
+     * @param dataSource Fonte de conexões da aplicação.
      */
-    public ResultController(User user) throws SQLException {
+    public ResultController(User user, SQLiteDataSource dataSource) throws SQLException {
         this.user = user;
-        this.bd = new SQLite();
+        this.dataSource = dataSource;
+        this.bd = new SQLite(dataSource);
         view = new ResultView(this.user, this.bd);
         initListeners();
     }
@@ -56,7 +62,7 @@ public class ResultController {
                 view.dispose();
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     try {
-                        UserController suser = new UserController(user);
+                        UserController suser = new UserController(user, dataSource);
                     } catch (SQLException ex) {
                         throw new RuntimeException(ex);
                     }
@@ -1,6 +1,8 @@
 package org.example.controller;
 
 import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.SimulationLoop;
 import org.example.model.User;
 import org.example.view.SimulationView;
 
@@ -29,21 +31,26 @@ public class SimulationController {
     /** Conexão com o banco de dados SQLite. */
     private SQLite bd;
 
+    /** Fonte de conexões compartilhada, repassada às próximas telas. */
+    private final SQLiteDataSource dataSource;
+
     /**
      * Construtor do controlador da simulação.
      *
      * <p>Inicializa a interface gráfica, adiciona a primeira criatura no painel,
-     * e inicia o temporizador de física da simulação.</p>
+     * e inicia o laço de física da simulação em sua própria thread.</p>
      *
-     * @param user Usuário que está executando a simulação.
+     * @param user       Usuário que está executando a simulação.
+     * @param dataSource Fonte de conexões da aplicação.
      */
-    public SimulationController(User user) throws SQLException {
+    public SimulationController(User user, SQLiteDataSource dataSource) throws SQLException {
         this.user = user;
-        this.bd = new SQLite();
+        this.dataSource = dataSource;
+        this.bd = new SQLite(dataSource);
         this.view = new SimulationView(user, this.bd);
         initListeners();
-        view.getCreaturesPanel().addCreature(view.getRandomX());
-        view.getCreaturesPanel().startPhisycsTimer();
+        view.getCreaturesPanel().addRandomCreature();
+        view.getCreaturesPanel().startSimulationLoop(SimulationLoop.DEFAULT_HZ);
     }
 
     /**
@@ -57,29 +64,28 @@ public class SimulationController {
     private void initListeners() {
         // Botão para adicionar criatura
         view.getBtnAddBall().addActionListener(e -> {
-            int x = view.getRandomX();
-            view.getCreaturesPanel().addCreature(x);
+            view.getCreaturesPanel().addRandomCreature();
         });
 
         // Botão para iniciar a simulação
         view.getBtnInit().addActionListener(e -> {
-            int x = view.getRandomX();
-            view.getCreaturesPanel().initSimulation(x);
+            view.getCreaturesPanel().initSimulation();
         });
 
         // Botão para sair da simulação
         view.getBtnQuit().addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                // Encerra a simulação (e grava o resultado) antes de devolver a conexão.
+                view.getCreaturesPanel().stopSimulation();
+
                 bd.editUserByUsername(user.getUserName(), user);
                 bd.close();
 
-                view.getCreaturesPanel().stopSimulation();
-
                 view.dispose();
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     try {
-                        UserController userController = new UserController(user);
+                        UserController userController = new UserController(user, dataSource);
                     } catch (SQLException ex) {
                         throw new RuntimeException(ex);
                     }
@@ -1,6 +1,7 @@
 package org.example.controller;
 
 import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
 import org.example.model.User;
 import org.example.view.UserView;
 
@@ -36,15 +37,20 @@ public class UserController {
     /** Conexão com o banco de dados SQLite. */
     private SQLite bd;
 
+    /** Fonte de conexões compartilhada, repassada às próximas telas. */
+    private final SQLiteDataSource dataSource;
+
     /**
      * Construtor do controlador do usuário.
      *
      * <p>Inicializa a view e os listeners, conectando as ações da interface com o modelo de dados.</p>
      *
-     * @param user Usuário autenticado no sistema.
+     * @param user       Usuário autenticado no sistema.
+     * @param dataSource Fonte de conexões da aplicação.
      */
-    public UserController(User user) throws SQLException {
-        this.bd = new SQLite();
+    public UserController(User user, SQLiteDataSource dataSource) throws SQLException {
+        this.dataSource = dataSource;
+        this.bd = new SQLite(dataSource);
         this.view = new UserView(user);
         this.user = user;
         initListeners();
@@ -80,7 +86,7 @@ public class UserController {
                 view.dispose();
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     try {
-                        simulation = new SimulationController(user);
+                        simulation = new SimulationController(user, dataSource);
                     } catch (SQLException ex) {
                         throw new RuntimeException(ex);
                     }
@@ -96,7 +102,7 @@ public class UserController {
                 view.dispose();
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     try {
-                        result = new ResultController(user);
+                        result = new ResultController(user, dataSource);
                     } catch (SQLException ex) {
                         throw new RuntimeException(ex);
                     }
@@ -127,7 +133,7 @@ public class UserController {
                     view.dispose();
                     javax.swing.SwingUtilities.invokeLater(() -> {
                         try {
-                            LoginController login = new LoginController();
+                            LoginController login = new LoginController(dataSource);
                         } catch (SQLException ex) {
                             throw new RuntimeException(ex);
                         }
@@ -144,7 +150,7 @@ public class UserController {
                 view.dispose();
                 javax.swing.SwingUtilities.invokeLater(() -> {
                     try {
-                        LoginController login = new LoginController();
+                        LoginController login = new LoginController(dataSource);
                     } catch (SQLException ex) {
                         throw new RuntimeException(ex);
                     }
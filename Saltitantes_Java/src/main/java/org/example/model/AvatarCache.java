@@ -0,0 +1,132 @@
+package org.example.model;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache compartilhado pelo processo com as imagens dos avatares já decodificadas e
+ * redimensionadas.
+ *
+ * <p>Cada imagem é identificada pelo nome do avatar e pelo tamanho desejado; o JPEG de
+ * <code>/org/example/images/</code> só é lido e redimensionado na primeira vez em que a
+ * combinação é pedida, e as chamadas seguintes (novos logins, trocas de tela, linhas do
+ * ranking) recebem a mesma {@link BufferedImage}. O cache é limitado: ao passar de
+ * {@link #DEFAULT_CAPACITY} imagens, a menos usada recentemente é descartada.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see User#getAVATAR()
+ */
+public final class AvatarCache {
+
+    /** Quantidade máxima padrão de imagens mantidas no cache. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /** Diretório dos avatares no classpath. */
+    private static final String IMAGES = "/org/example/images/";
+
+    /** Instância compartilhada pelo processo. */
+    private static final AvatarCache SHARED = new AvatarCache(DEFAULT_CAPACITY);
+
+    /** Imagens por chave "nome@tamanho", na ordem de uso (LRU). */
+    private final LinkedHashMap<String, BufferedImage> images;
+
+    /** Quantidade de pedidos atendidos pelo cache. */
+    private long hits = 0;
+
+    /** Quantidade de pedidos que precisaram decodificar a imagem. */
+    private long misses = 0;
+
+    /**
+     * Cria um cache com capacidade própria (o processo usa {@link #shared()}).
+     *
+     * @param capacity Quantidade máxima de imagens mantidas.
+     */
+    public AvatarCache(int capacity) {
+        int max = Math.max(1, capacity);
+        images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                return size() > max;
+            }
+        };
+    }
+
+    /** @return Cache compartilhado pelo processo. */
+    public static AvatarCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Retorna o avatar redimensionado para {@code size}x{@code size} pixels.
+     *
+     * @param avatarName Nome do arquivo do avatar (sem extensão .jpeg).
+     * @param size       Lado da imagem, em pixels.
+     * @return Imagem compartilhada; não deve ser alterada.
+     * @throws NullPointerException se o avatar não existe.
+     */
+    public BufferedImage get(String avatarName, int size) {
+        String key = avatarName + "@" + size;
+        synchronized (images) {
+            BufferedImage image = images.get(key);
+            if (image != null) {
+                hits++;
+                return image;
+            }
+        }
+
+        BufferedImage image = load(avatarName, size);
+        synchronized (images) {
+            misses++;
+            BufferedImage raced = images.putIfAbsent(key, image);
+            return raced != null ? raced : image;
+        }
+    }
+
+    /** @return Quantidade de imagens no cache. */
+    public int size() {
+        synchronized (images) {
+            return images.size();
+        }
+    }
+
+    /** @return Quantidade de pedidos atendidos pelo cache. */
+    public long getHits() {
+        synchronized (images) {
+            return hits;
+        }
+    }
+
+    /** @return Quantidade de pedidos que precisaram decodificar a imagem. */
+    public long getMisses() {
+        synchronized (images) {
+            return misses;
+        }
+    }
+
+    /**
+     * Decodifica o JPEG e o redimensiona com interpolação bicúbica.
+     */
+    private static BufferedImage load(String avatarName, int size) {
+        try (InputStream in = Objects.requireNonNull(
+                AvatarCache.class.getResourceAsStream(IMAGES + avatarName + ".jpeg"))) {
+            BufferedImage source = ImageIO.read(in);
+            BufferedImage scaled = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = scaled.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, size, size, null);
+            g.dispose();
+            return scaled;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível ler o avatar " + avatarName, e);
+        }
+    }
+}
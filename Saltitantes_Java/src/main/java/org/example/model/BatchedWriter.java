@@ -0,0 +1,321 @@
+package org.example.model;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+
+/**
+ * Base das gravações em lote, em segundo plano, feitas pelas {@link SQLiteDataSource}.
+ *
+ * <p>As subclasses apenas enfileiram valores com {@link #put(Object, Object)} (valores com a
+ * mesma chave são agrupados: vale o último, na posição do primeiro) ou {@link #add(Object)}
+ * (sem agrupar) e implementam {@link #write(StatementCache, Collection)}, que grava um lote.
+ * Depois de {@link #start()}, uma thread de fundo grava todos os pendentes em uma única
+ * transação, um pouco depois do primeiro ou assim que o lote atinge o tamanho máximo.
+ * {@link #flush()} grava na thread atual e {@link #close()} para a thread e grava o que
+ * estiver pendente; valores enfileirados depois disso são gravados na hora.</p>
+ *
+ * <p>Um lote que falha volta à frente da fila e a thread de fundo espera cada vez mais
+ * antes de tentar de novo (até {@link #MAX_BACKOFF_MS}). Depois de
+ * {@link #DEFAULT_MAX_ATTEMPTS} falhas seguidas o lote é descartado, e o erro é lançado pelo
+ * próximo {@link #flush()} ou {@link #close()}.</p>
+ *
+ * @param <V> Tipo dos valores gravados.
+ * @author ValentinaClash
+ * @version 1.0
+ * @see UserWriteBehind
+ * @see SimulationRunWriter
+ */
+public abstract class BatchedWriter<V> implements AutoCloseable {
+
+    /** Tentativas seguidas de gravar um lote antes de descartá-lo. */
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    /** Espera, em milissegundos, antes da primeira nova tentativa; dobra a cada falha. */
+    public static final long RETRY_BASE_MS = 100;
+
+    /** Espera máxima, em milissegundos, entre duas tentativas. */
+    public static final long MAX_BACKOFF_MS = 10_000;
+
+    /** Fonte das conexões usadas na gravação. */
+    private final SQLiteDataSource dataSource;
+
+    /** Nome da thread de fundo. */
+    private final String threadName;
+
+    /** Espera para agrupar valores antes de gravar. */
+    private final long delayMillis;
+
+    /** Tamanho do lote que dispara a gravação sem esperar. */
+    private final int batchSize;
+
+    /** Tentativas seguidas antes de descartar um lote. */
+    private final int maxAttempts;
+
+    /** Monitor da fila e do estado da thread de fundo. */
+    private final Object queueLock = new Object();
+
+    /** Valores pendentes por chave, na ordem do primeiro. */
+    private LinkedHashMap<Object, V> pending = new LinkedHashMap<>();
+
+    /** Serializa as gravações da thread de fundo e de {@link #flush()}. */
+    private final Object writeLock = new Object();
+
+    /** Thread de fundo, criada em {@link #start()}. */
+    private Thread thread;
+
+    /** Indica se o gravador foi fechado. */
+    private boolean closed = false;
+
+    /** Espera antes da próxima tentativa após uma falha, ou 0 se a última gravação deu certo. */
+    private long backoffMillis = 0;
+
+    /** Falhas seguidas do lote atual. */
+    private int failures = 0;
+
+    /** Erro de um lote descartado, ainda não lançado por {@link #flush()}. */
+    private SQLException failure;
+
+    /** Quantidade de linhas gravadas desde a criação. */
+    private long writtenRows = 0;
+
+    /** Quantidade de linhas descartadas após {@link #maxAttempts} falhas. */
+    private long discardedRows = 0;
+
+    /**
+     * Cria o gravador, sem iniciar a thread de fundo.
+     *
+     * @param dataSource  Fonte das conexões usadas na gravação.
+     * @param threadName  Nome da thread de fundo.
+     * @param delayMillis Espera para agrupar valores antes de gravar.
+     * @param batchSize   Tamanho do lote que dispara a gravação sem esperar.
+     * @param maxAttempts Tentativas seguidas antes de descartar um lote.
+     */
+    protected BatchedWriter(SQLiteDataSource dataSource, String threadName, long delayMillis,
+                            int batchSize, int maxAttempts) {
+        this.dataSource = dataSource;
+        this.threadName = threadName;
+        this.delayMillis = Math.max(0, delayMillis);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Grava um lote. Roda dentro de uma transação, que é desfeita se o método lançar erro.
+     *
+     * @param statements Comandos preparados da conexão da gravação.
+     * @param batch      Valores a gravar, na ordem da fila.
+     */
+    protected abstract void write(StatementCache statements, Collection<V> batch) throws SQLException;
+
+    /**
+     * Inicia a thread de fundo, se ainda não foi iniciada nem o gravador fechado. Antes
+     * disso, os valores só são gravados por {@link #flush()} e {@link #close()}.
+     */
+    public void start() {
+        synchronized (queueLock) {
+            if (thread != null || closed) return;
+            thread = new Thread(this::run, threadName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Enfileira um valor, substituindo um valor pendente com a mesma chave.
+     *
+     * @param key   Chave de agrupamento.
+     * @param value Valor a gravar.
+     */
+    protected void put(Object key, V value) {
+        boolean direct;
+        synchronized (queueLock) {
+            pending.put(key, value);
+            if (pending.size() == 1 || pending.size() == batchSize) {
+                queueLock.notifyAll();
+            }
+            direct = closed;
+        }
+        if (direct) {
+            try {
+                flush();
+            } catch (SQLException e) {
+                System.err.println("Não foi possível gravar: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Enfileira um valor sem agrupá-lo com nenhum outro.
+     *
+     * @param value Valor a gravar.
+     */
+    protected void add(V value) {
+        put(new Object(), value);
+    }
+
+    /**
+     * Grava agora, na thread atual, todos os valores pendentes e aguarda uma gravação em
+     * andamento na thread de fundo.
+     *
+     * @throws SQLException se a gravação falhar (os valores continuam na fila, a menos que
+     *                      tenham atingido o limite de tentativas) ou se um lote foi
+     *                      descartado pela thread de fundo desde a última chamada.
+     */
+    public void flush() throws SQLException {
+        synchronized (writeLock) {
+            SQLException error = writePending();
+            if (error == null) {
+                error = failure;
+            }
+            failure = null;
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    /** @return Quantidade de valores ainda não gravados. */
+    public int getPendingCount() {
+        synchronized (queueLock) {
+            return pending.size();
+        }
+    }
+
+    /** @return Quantidade de linhas gravadas desde a criação. */
+    public long getWrittenRows() {
+        synchronized (writeLock) {
+            return writtenRows;
+        }
+    }
+
+    /** @return Quantidade de linhas descartadas após atingirem o limite de tentativas. */
+    public long getDiscardedRows() {
+        synchronized (writeLock) {
+            return discardedRows;
+        }
+    }
+
+    /**
+     * Para a thread de fundo e grava o que estiver pendente. Valores enfileirados depois
+     * disso são gravados na hora.
+     *
+     * @throws SQLException nas mesmas condições de {@link #flush()}.
+     */
+    @Override
+    public void close() throws SQLException {
+        Thread t;
+        synchronized (queueLock) {
+            closed = true;
+            t = thread;
+            queueLock.notifyAll();
+        }
+        if (t != null && t != Thread.currentThread()) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Laço da thread de fundo: espera o primeiro valor e aguarda {@link #delayMillis} (ou a
+     * espera da nova tentativa, se a última falhou), ou até o lote encher, antes de gravar.
+     */
+    private void run() {
+        while (true) {
+            synchronized (queueLock) {
+                try {
+                    while (pending.isEmpty() && !closed) {
+                        queueLock.wait();
+                    }
+                    long backoff = backoffMillis;
+                    long deadline = System.nanoTime() + Math.max(delayMillis, backoff) * 1_000_000L;
+                    long remaining;
+                    while (!closed && (backoff > 0 || pending.size() < batchSize)
+                            && (remaining = deadline - System.nanoTime()) > 0) {
+                        queueLock.wait(Math.max(1, remaining / 1_000_000L));
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (closed) return;
+            }
+            synchronized (writeLock) {
+                writePending();
+            }
+        }
+    }
+
+    /**
+     * Grava todos os valores pendentes, com {@link #writeLock} adquirido. Se a gravação
+     * falhar, devolve o lote à frente da fila (os valores mais novos com a mesma chave
+     * prevalecem) ou, no limite de tentativas, o descarta.
+     *
+     * @return O erro da gravação, ou {@code null} se ela deu certo ou não havia pendentes.
+     */
+    private SQLException writePending() {
+        LinkedHashMap<Object, V> batch;
+        synchronized (queueLock) {
+            if (pending.isEmpty()) return null;
+            batch = pending;
+            pending = new LinkedHashMap<>();
+        }
+        try {
+            writeBatch(batch.values());
+            writtenRows += batch.size();
+            failures = 0;
+            synchronized (queueLock) {
+                backoffMillis = 0;
+            }
+            return null;
+        } catch (SQLException e) {
+            failures++;
+            if (failures >= maxAttempts) {
+                System.err.println("Descartando " + batch.size() + " linhas após " + failures
+                        + " tentativas: " + e.getMessage());
+                discardedRows += batch.size();
+                failures = 0;
+                failure = e;
+                synchronized (queueLock) {
+                    backoffMillis = 0;
+                }
+            } else {
+                if (failures == 1) {
+                    System.err.println("Não foi possível gravar, tentando de novo: " + e.getMessage());
+                }
+                synchronized (queueLock) {
+                    batch.putAll(pending);
+                    pending = batch;
+                    backoffMillis = Math.min(MAX_BACKOFF_MS, RETRY_BASE_MS << (failures - 1));
+                }
+            }
+            return e;
+        }
+    }
+
+    /**
+     * Grava um lote em uma única transação de uma conexão emprestada da fonte.
+     */
+    private void writeBatch(Collection<V> batch) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                write(dataSource.statements(connection), batch);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } finally {
+            dataSource.release(connection);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice dos clusters ordenado pela posição {@code x}, usado pelo guardião.
+ *
+ * <p>Mantém apenas os clusters (e não toda a população) em um vetor ordenado por
+ * {@code (x, sequência de criação)}. Como os clusters são sempre adicionados ao fim da lista
+ * do motor e nunca mudam de ordem entre si, a sequência de criação é também a ordem em que
+ * aparecem na lista. Assim, {@link #removeRange(int, int, List)} devolve os clusters
+ * absorvidos na mesma ordem da varredura original, com custo de duas buscas binárias mais o
+ * número de clusters retornados.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationEngine#checkGuardian()
+ */
+public class ClusterIndex {
+
+    /** Clusters ordenados por {@code (x, sequência)}. */
+    private Creature[] sorted = new Creature[16];
+
+    /** Coordenada {@code x} registrada de cada entrada. */
+    private int[] xs = new int[16];
+
+    /** Sequência de criação de cada entrada. */
+    private int[] seqs = new int[16];
+
+    /** Buffer reaproveitado para ordenar o resultado das consultas por sequência. */
+    private long[] keys = new long[16];
+
+    /** Quantidade de clusters indexados. */
+    private int size = 0;
+
+    /** Próximo número de sequência. */
+    private int nextSeq = 0;
+
+    /**
+     * Reconstrói o índice com os clusters da lista, na ordem em que aparecem.
+     *
+     * @param creatures Lista de criaturas do motor.
+     */
+    public void rebuild(List<Creature> creatures) {
+        Arrays.fill(sorted, 0, size, null);
+        size = 0;
+        nextSeq = 0;
+        for (Creature c : creatures) {
+            if (c.isCluster) {
+                add(c);
+            }
+        }
+    }
+
+    /**
+     * Indexa um cluster recém-criado (que passa a ser o último cluster da lista).
+     *
+     * @param cluster Cluster a indexar.
+     */
+    public void add(Creature cluster) {
+        if (size == sorted.length) {
+            int capacity = size * 2;
+            sorted = Arrays.copyOf(sorted, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            seqs = Arrays.copyOf(seqs, capacity);
+        }
+        // A sequência é a maior de todas: entra depois de todos os de mesmo x
+        int p = lowerBound(cluster.x + 1);
+        int tail = size - p;
+        System.arraycopy(sorted, p, sorted, p + 1, tail);
+        System.arraycopy(xs, p, xs, p + 1, tail);
+        System.arraycopy(seqs, p, seqs, p + 1, tail);
+        sorted[p] = cluster;
+        xs[p] = cluster.x;
+        seqs[p] = nextSeq++;
+        size++;
+    }
+
+    /**
+     * Remove um cluster do índice.
+     *
+     * @param cluster Cluster a remover (com o mesmo {@code x} registrado no índice).
+     * @return true se o cluster estava indexado.
+     */
+    public boolean remove(Creature cluster) {
+        int p = find(cluster, cluster.x);
+        if (p < 0) return false;
+        delete(p, p + 1);
+        return true;
+    }
+
+    /**
+     * Atualiza a posição de um cluster que andou.
+     *
+     * @param cluster Cluster que se moveu.
+     * @param oldX    Coordenada x antes do movimento.
+     */
+    public void moved(Creature cluster, int oldX) {
+        int p = find(cluster, oldX);
+        if (p < 0) return;
+        xs[p] = cluster.x;
+        while (p > 0 && greater(p - 1, p)) {
+            swap(p - 1, p);
+            p--;
+        }
+        while (p < size - 1 && greater(p, p + 1)) {
+            swap(p, p + 1);
+            p++;
+        }
+    }
+
+    /**
+     * Remove do índice todos os clusters com {@code minX <= x <= maxX} e os adiciona em
+     * {@code out} na ordem em que aparecem na lista do motor.
+     *
+     * @param minX Limite inferior (inclusivo).
+     * @param maxX Limite superior (inclusivo).
+     * @param out  Lista que recebe os clusters removidos.
+     * @return Quantidade de clusters removidos.
+     */
+    public int removeRange(int minX, int maxX, List<Creature> out) {
+        int lo = lowerBound(minX);
+        int hi = lowerBound(maxX + 1);
+        int count = hi - lo;
+        if (count <= 0) return 0;
+
+        if (keys.length < count) {
+            keys = new long[Math.max(count, keys.length * 2)];
+        }
+        for (int p = lo; p < hi; p++) {
+            keys[p - lo] = ((long) seqs[p] << 32) | (p - lo);
+        }
+        Arrays.sort(keys, 0, count);
+        for (int k = 0; k < count; k++) {
+            out.add(sorted[lo + (int) keys[k]]);
+        }
+
+        delete(lo, hi);
+        return count;
+    }
+
+    /** @return Quantidade de clusters indexados. */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Primeira posição ordenada com {@code x >= value}.
+     *
+     * @param value Coordenada procurada.
+     * @return Posição entre 0 e {@link #size()}.
+     */
+    private int lowerBound(int value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /** Posição do cluster entre as entradas registradas com o x informado, ou -1. */
+    private int find(Creature cluster, int x) {
+        for (int p = lowerBound(x); p < size && xs[p] == x; p++) {
+            if (sorted[p] == cluster) return p;
+        }
+        return -1;
+    }
+
+    /** Remove as entradas {@code [from, to)}. */
+    private void delete(int from, int to) {
+        int tail = size - to;
+        System.arraycopy(sorted, to, sorted, from, tail);
+        System.arraycopy(xs, to, xs, from, tail);
+        System.arraycopy(seqs, to, seqs, from, tail);
+        int newSize = size - (to - from);
+        Arrays.fill(sorted, newSize, size, null);
+        size = newSize;
+    }
+
+    /** Verifica se a entrada {@code a} deve vir depois da entrada {@code b}. */
+    private boolean greater(int a, int b) {
+        return xs[a] > xs[b] || (xs[a] == xs[b] && seqs[a] > seqs[b]);
+    }
+
+    /** Troca duas entradas vizinhas. */
+    private void swap(int a, int b) {
+        Creature c = sorted[a];
+        sorted[a] = sorted[b];
+        sorted[b] = c;
+        int x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        int s = seqs[a];
+        seqs[a] = seqs[b];
+        seqs[b] = s;
+    }
+}
@@ -53,6 +53,12 @@ public class Creature {
     /** Componente visual associado à criatura para exibição na interface Swing. */
     public JLabel label;
 
+    /** No pulo calculado pelo motor, tick do relógio de pulo em que {@link #y} e {@link #spdY} valem. */
+    long bounceTick;
+
+    /** No pulo calculado pelo motor, tick do relógio de pulo do primeiro toque no chão após {@link #bounceTick}. */
+    long bounceLanding;
+
     /**
      * Cria uma nova instância de {@code Creature} com posição, velocidade e componente gráfico definidos.
      *
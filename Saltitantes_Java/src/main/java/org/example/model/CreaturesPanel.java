@@ -1,7 +1,5 @@
 package org.example.model;
 
-import org.example.controller.UserController;
-
 import javax.swing.*;
 import javax.swing.Timer;
 import java.awt.*;
@@ -9,27 +7,48 @@ import java.util.*;
 import java.util.List;
 
 /**
- * Painel gráfico responsável por gerenciar e exibir múltiplas bolas em movimento.
+ * Painel gráfico responsável por exibir múltiplas bolas em movimento.
  *
- * <p>Este painel simula física básica (gravidade e pulo), movimentação horizontal,
- * lógica de roubo entre bolas e atualizações visuais em tempo real com timers.</p>
+ * <p>Toda a lógica da simulação (física, roubo, clusters e guardião) fica no
+ * {@link SimulationEngine}; este painel apenas dispara o motor com timers, desenha as
+ * criaturas e mantém os rótulos de ouro, além de registrar o resultado da simulação
+ * no usuário e no banco de dados.</p>
  *
  * @author ValentinaClash
  * @version 1.0
  * @see Creature
+ * @see SimulationEngine
  */
 public class CreaturesPanel extends JPanel {
 
     /** Tamanho padrão da bola em pixels. */
-    public static final int CREATURE_SIZE = 50;
+    public static final int CREATURE_SIZE = SimulationEngine.CREATURE_SIZE;
+
+    public static final int fuseDistance = SimulationEngine.fuseDistance; // tolerância em pixels
+
+    /** Cor das criaturas comuns. */
+    public static final Color CREATURE_COLOR = new Color(0, 0, 255);
+
+    /** Cor dos clusters. */
+    public static final Color CLUSTER_COLOR = new Color(157, 0, 255);
+
+    /** Cor do guardião. */
+    public static final Color GUARDIAN_COLOR = new Color(0, 255, 0);
+
+    /** Cor do ouro das criaturas paradas. */
+    public static final Color GOLD_COLOR = new Color(255, 255, 255);
 
-    public static final int fuseDistance = 75; // tolerância em pixels
+    /** Cor do ouro da criatura que está se movendo. */
+    public static final Color MOVING_COLOR = new Color(255, 0, 0);
 
     /** Posição Y que representa o chão. */
     private final int groundY;
 
-    /** Lista de todas as bolas presentes no painel. */
-    public final List<Creature> Creatures = new ArrayList<>();
+    /** Motor headless que mantém o estado e as regras da simulação. */
+    public final SimulationEngine engine;
+
+    /** Lista de todas as bolas presentes no painel (a mesma lista do motor). */
+    public final List<Creature> Creatures;
 
     /** Timer que controla a física das bolas (gravidade, movimento). */
     public Timer phisycsTimer;
@@ -37,30 +56,48 @@ public class CreaturesPanel extends JPanel {
     /** Timer que dispara atualizações periódicas nas bolas (roubo e movimentação). */
     public Timer updateTimer;
 
-    /** Valor da gravidade aplicada às bolas. */
-    private final float grav = 1.0f;
+    /** Laço de passo fixo que substitui os timers, se iniciado por {@link #startSimulationLoop(double)}. */
+    public SimulationLoop loop;
 
-    /** Força vertical aplicada no "pulo" das bolas. */
-    private final int jumpForce = -15;
+    /** Frequência do {@link #loop}, para recriá-lo em uma nova simulação. */
+    private double loopHz = SimulationLoop.DEFAULT_HZ;
 
-    private static int creaturesMove = 0;
+    /** Se true, o ouro é desenhado em {@link #paintComponent(Graphics)} em vez de usar {@link JLabel}s. */
+    private boolean textRendering = false;
 
-    /** Gerador de números aleatórios para movimentação e cálculo de alvo. */
-    private Random rand = new Random();
+    /** Desenha o ouro com textos em cache. */
+    private final GoldTextRenderer goldText = new GoldTextRenderer();
 
-    /** Contador de interações (ticks de atualização). */
-    private int interacao = 0;
+    /** Formas das criaturas já rasterizadas (criado na primeira pintura). */
+    private SpriteAtlas sprites;
 
-    /** Flag que alterna o momento de atualizar ou não. */
-    public boolean canUpdate = true;
+    /** Quadro reaproveitado para pintar no modo com timers e texto desenhado. */
+    private final SimulationSnapshot paintFrame = new SimulationSnapshot();
 
-    public boolean startSimulation = false;
+    /** Mantém os rótulos em sincronia com o motor enquanto {@link #textRendering} está desligado. */
+    private final SimulationListener labelUpdater = new LabelUpdater();
 
-    /** Índice atual da bola que está se movendo. */
-    public static int moveIndex = 0;
     public User user;
     public SQLite bd;
-    private int maxInteration = 50;
+
+    /** Sorteia a semente de cada simulação. */
+    private final Random seeds = new Random();
+
+    /**
+     * Semente do motor na simulação atual, gravada no histórico. Na primeira simulação do
+     * painel, se as criaturas foram adicionadas por {@link #addRandomCreature()} e ela foi
+     * iniciada por {@link #initSimulation()}, um motor novo com as mesmas dimensões e esta
+     * semente, com {@code populate(runCreatures)} e {@code start(randomX())}, começa do mesmo
+     * estado. As simulações seguintes começam com os clusters e o guardião que sobraram da
+     * anterior, que a semente não reconstrói.
+     */
+    private long seed;
+
+    /** Início da simulação em andamento ({@link System#nanoTime()}). */
+    private long runStart;
+
+    /** Quantidade de criaturas no início da simulação em andamento, sem o guardião. */
+    private int runCreatures;
 
     /**
      * Construtor do painel de bolas.
@@ -69,11 +106,8 @@ public class CreaturesPanel extends JPanel {
      * @param height Altura do painel.
      */
     public CreaturesPanel(int width, int height, User user, SQLite bd) {
+        this(width, height, user);
         this.bd = bd;
-        this.user = user;
-        setBackground(Color.BLACK);
-        setPreferredSize(new Dimension(width, height));
-        groundY = height - CREATURE_SIZE - 40;
     }
 
     public CreaturesPanel(int width, int height, User user) {
@@ -81,6 +115,25 @@ public class CreaturesPanel extends JPanel {
         setBackground(Color.BLACK);
         setPreferredSize(new Dimension(width, height));
         groundY = height - CREATURE_SIZE - 40;
+        engine = new SimulationEngine(this::getWidth, height, new Random());
+        engine.setUser(user);
+        engine.setListener(labelUpdater);
+        Creatures = engine.Creatures;
+        newSeed();
+    }
+
+    /**
+     * Sorteia a semente da próxima simulação e a aplica ao motor, antes de qualquer criatura
+     * dela ser sorteada.
+     */
+    private void newSeed() {
+        seed = seeds.nextLong();
+        engine.reseed(seed);
+    }
+
+    /** @return Semente do motor na simulação atual. */
+    public long getSeed() {
+        return seed;
     }
 
     /**
@@ -89,95 +142,22 @@ public class CreaturesPanel extends JPanel {
      * @param posX Posição X inicial da bola.
      */
     public void addCreature(int posX) {
-        synchronized (Creatures) {
-            int spdX = 1;
-            int spdY = 1;
-
-            JLabel label = new JLabel();
-            label.setForeground(Color.WHITE);
-            label.setBounds(posX, groundY - 20, CREATURE_SIZE, 20);
-            label.setHorizontalAlignment(SwingConstants.CENTER);
-
-            Creature newCreature = new Creature(posX, groundY, spdX, spdY, label);
-            setLabelText(newCreature);
-            if (Creatures.isEmpty()) {
-                Creatures.add(newCreature);
-                newCreature.x = calcNextPosition(newCreature);
-                newCreature.target = calcNextPosition(newCreature);
-            } else {
-                Creature last = Creatures.getLast();
-                if (!last.isGuardian) {
-                    Creatures.add(newCreature);
-                    newCreature.x = calcNextPosition(newCreature);
-                    newCreature.target = calcNextPosition(newCreature);
-                } else {
-                    Creatures.removeLast();
-                    Creatures.add(newCreature);
-                    newCreature.x = calcNextPosition(newCreature);
-                    newCreature.target = calcNextPosition(newCreature);
-                    Creatures.add(last);
-                }
-            }
-        }
+        engine.addCreature(posX);
     }
 
-    public boolean createCluster(ArrayList<Creature> creaturesColliding){
-        if(creaturesColliding.size() > 1){
-            synchronized (Creatures) {
-                if(!getLast().isGuardian) return false;
-                Creature guardian = getLast();
-                removeCreature(guardian); //Remove temporiarmente o guardião da lista
-
-                JLabel label = new JLabel();
-                label.setForeground(Color.WHITE);
-                label.setBounds(creaturesColliding.get(0).x, groundY - 20, CREATURE_SIZE, 20);
-                label.setHorizontalAlignment(SwingConstants.CENTER);
-
-                Creature cluster = new Creature(creaturesColliding.getFirst().x, groundY - 20, 1, 0, label);
-                cluster.gold = 0.0;
-                cluster.isCluster = true;
-
-                for (Creature aux : creaturesColliding) {
-                    cluster.gold += aux.gold;
-                    this.remove(aux.label);
-                    user.addPoints(20.0);
-                }
-
-                // Remove todas as criaturas que participaram da fusão
-                Creatures.removeAll(creaturesColliding);
+    /**
+     * Adiciona uma bola em uma posição sorteada pelo motor, a partir da semente da simulação.
+     */
+    public void addRandomCreature() {
+        engine.addCreature(engine.randomX());
+    }
 
-                // Adiciona o novo cluster
-                Creatures.add(cluster);
-                cluster.target = calcNextPosition(cluster);
-                cluster.canMove = true;
-                setLabelText(cluster);
-                Creatures.add(guardian);
-                return true;
-            }
-        }
-        return false;
+    public boolean createCluster(ArrayList<Creature> creaturesColliding){
+        return engine.createCluster(creaturesColliding);
     }
 
     public boolean createGuardian(int posX){
-        synchronized (Creatures){
-            if(this.getLast().isGuardian){
-                System.err.println("Só pode ter um guardião");
-                return false;
-            }
-            int spdX = 1;
-            int spdY = 1;
-
-            JLabel label = new JLabel();
-            label.setForeground(Color.WHITE);
-            label.setBounds(posX, groundY - 20, CREATURE_SIZE, 20);
-            label.setHorizontalAlignment(SwingConstants.CENTER);
-            Guardian guardian = new Guardian(posX, groundY, spdX, spdY, label);
-            setLabelText(guardian);
-            Creatures.add(guardian);
-            guardian.x = calcNextPosition(Creatures.getLast());
-            guardian.target = Creatures.getLast().x;
-            return true;
-        }
+        return engine.createGuardian(posX);
     }
 
     /**
@@ -186,14 +166,7 @@ public class CreaturesPanel extends JPanel {
      * @return true se todas as bolas estão paradas, senão false.
      */
     public boolean isCanUpdate() {
-        synchronized (Creatures) {
-            for (Creature aux : Creatures) {
-                if (aux.canMove && !aux.isGuardian) {
-                    return false;
-                }
-            }
-            return true;
-        }
+        return engine.isCanUpdate();
     }
 
     /**
@@ -203,38 +176,7 @@ public class CreaturesPanel extends JPanel {
      * @return true se o roubo foi realizado com sucesso.
      */
     public boolean thiefNeighbor(Creature thief) {
-        synchronized (Creatures){
-
-            if (Creatures.size() <= 1) return false;
-
-            if (isCanUpdate() && !thief.isGuardian) {
-                int closerIndex = 0;
-                int index = 0;
-                int closest_distance = getWidth() - CREATURE_SIZE;
-                int aux_distance;
-
-                for (Creature neighbor : Creatures) {
-                    if (thief != neighbor && !neighbor.isGuardian) {
-                        aux_distance = Math.abs(thief.x - neighbor.x);
-                        if (aux_distance <= closest_distance) {
-                            closest_distance = aux_distance;
-                            closerIndex = index;
-                            user.addPoints(5.0);
-                        }
-                    }
-                    index++;
-                }
-
-                thief.gold += Creatures.get(closerIndex).gold / 2;
-                Creatures.get(closerIndex).gold /= 2;
-
-                thief.target = calcNextPosition(thief);
-                Creatures.get(closerIndex).target = calcNextPosition(Creatures.get(closerIndex));
-            }else{
-                return false;
-            }
-            return true;
-        }
+        return engine.thiefNeighbor(thief);
     }
 
     /**
@@ -244,7 +186,7 @@ public class CreaturesPanel extends JPanel {
      * @return Valor alvo em coordenadas lógicas.
      */
     public double calcTarget(Creature Creature) {
-        return Creature.x + (rand.nextDouble(2) - 1) * Creature.gold;
+        return engine.calcTarget(Creature);
     }
 
     /**
@@ -253,24 +195,7 @@ public class CreaturesPanel extends JPanel {
      * @return true se a atualização foi bem-sucedida, false se não há bolas left.
      */
     public boolean update() {
-        synchronized (Creatures) {
-            interacao++;
-            //System.err.println(interacao);
-            canUpdate = !canUpdate;
-
-            if (Creatures.isEmpty()) {
-                return false;
-            }
-
-            for (Creature creature : Creatures) {
-                if (creature.canTheft && !creature.isGuardian) {
-                    thiefNeighbor(creature);
-                    creature.canMove = true;
-                }
-            }
-            canUpdate = !canUpdate;
-            return true;
-        }
+        return engine.update();
     }
 
     /**
@@ -279,158 +204,23 @@ public class CreaturesPanel extends JPanel {
      * @return true se a atualização ocorreu normalmente, false se não há bolas.
      */
     public boolean phisycsUpdate() {
-        synchronized (Creatures) {
-            if (Creatures.isEmpty()) {
-                return false;
-            }
-
-            List<Creature> snapshot; //Copia da lista de criaturas para evitar erros
-            snapshot = new ArrayList<>(Creatures);
-
-            if (canUpdate) {
-                if(creaturesMove >= snapshot.size()){
-                    System.err.println(checkGuardian());
-                    System.err.println(checkCluster());
-                    creaturesMove = 0;
-                    moveIndex = 0;
-                    snapshot = new ArrayList<>(Creatures);
-
-                    for (Creature aux : snapshot) {
-                        if(!aux.isGuardian) { //Guardiao deve continuar se movendo
-                            aux.canTheft = true;
-                            aux.canMove = false;
-                        }
-                    }
-                }
-
-                for (Creature creature : snapshot) {
-                    // Atualização vertical (PULO)
-
-                    creature.spdY += grav;
-                    creature.y += creature.spdY;
-
-                    if (creature.y >= groundY) {
-                        creature.y = groundY;
-                        creature.spdY = jumpForce;
-                    }
-
-                    if (moveIndex >= snapshot.size()) {
-                        moveIndex = 0;
-                    }
-
-                    // Atualização horizontal (movimento em direção ao alvo)
-                    Creature moving = snapshot.get(moveIndex); //Criatura que vai se mover
-
-                    if (moving.canMove && startSimulation) {
-                        moving.label.setForeground(new Color(255, 0, 0));
-                        if (moving.x == moving.target) {
-                            moving.canMove = false;
-                            creaturesMove++;
-                        }
-
-                        if (moving.x != moving.target) {
-                            moving.canTheft = false;
-                        }
-
-                        if (moving.target > moving.x) {
-                            moving.x += moving.spdX;
-                        } else if (moving.target < moving.x) {
-                            moving.x -= moving.spdX;
-                        }
-
-                    } else if(startSimulation) {
-                        moving.label.setForeground(new Color(255, 255, 255));
-                        moveIndex = (moveIndex + 1) % snapshot.size();
-
-                        if (moveIndex >= snapshot.size() - 1 && startSimulation) {
-                            for (Creature aux : snapshot) {
-                                aux.canTheft = true; //Autoriza criaturas a roubar novamente
-                            }
-                            moveIndex = 0;
-                        }
-
-                    }
-
-                    setLabelText(creature);
-                    creature.label.setBounds(creature.x, creature.y - 20, CREATURE_SIZE, 20);
-                }
-            }
-
-            repaint();
-            checkEndCondition();
-            return true;
+        if (!engine.phisycsUpdate()) {
+            return false;
         }
+        repaint();
+        checkEndCondition();
+        return true;
     }
 
     public boolean checkGuardian() {
-        synchronized (Creatures) {
-            Creature guardian = getLast();
-
-            if(guardian.isGuardian){
-                List<Creature> toRemove = new ArrayList<>();
-
-                for(Creature c: Creatures){
-                    if(c.isCluster && Math.abs(c.x - guardian.x) <= fuseDistance){
-                        guardian.gold += c.gold;
-                        toRemove.add(c);
-                    }
-                }
-                if(!toRemove.isEmpty()) {
-                    guardian.x = toRemove.getLast().x;
-                    for (Creature c : toRemove) {
-                        removeCreature(c);
-                        user.addPoints(50.0);
-                    }
-                    this.remove(guardian.label);
-                    setLabelText(guardian);
-                    guardian.target = calcNextPosition(guardian);
-                    guardian.canMove = true;
-                    guardian.canTheft = false;
-                    return true;
-                }
-                return false;
-            }
-        }
-        return false;
+        return engine.checkGuardian();
     }
 
     /**
      * Checa se precisa criar novos clusters (duas ou mais criaturas na mesma posição
      */
     public boolean checkCluster() {
-        synchronized (Creatures) {
-            List<Creature> left = new ArrayList<>(Creatures); // cópia para controle
-            List<List<Creature>> group = new ArrayList<>();
-
-            while (!left.isEmpty()) {
-                Creature base = left.removeFirst();
-
-                if (base.isGuardian) continue;
-
-                List<Creature> grupo = new ArrayList<>();
-                grupo.add(base);
-
-                Iterator<Creature> it = left.iterator();
-                while (it.hasNext()) {
-                    Creature c = it.next();
-                    if (!c.isGuardian && Math.abs(c.x - base.x) <= fuseDistance) {
-                        grupo.add(c);
-                        it.remove();
-                    }
-                }
-
-                if (grupo.size() > 1) {
-                    group.add(grupo);
-                }else{
-                    return false;
-                }
-            }
-
-            for (List<Creature> grupo : group) {
-                createCluster(new ArrayList<>(grupo));
-            }
-        }
-        return true;
+        return engine.checkCluster();
     }
 
     /**
@@ -442,17 +232,62 @@ public class CreaturesPanel extends JPanel {
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
 
-        for (Creature creature : Creatures) {
-            if(creature.isCluster) {
-                g.setColor(new Color(157,0,255));
-                g.fillRect(creature.x, creature.y, CREATURE_SIZE, CREATURE_SIZE);
-            }else if(creature.isGuardian){
-                g.setColor(new Color(0, 255, 0));
-                g.fillRect(creature.x, creature.y, CREATURE_SIZE, CREATURE_SIZE);
-            }else{
-                g.setColor(new Color(0,0,255));
-                g.fillOval(creature.x, creature.y, CREATURE_SIZE, CREATURE_SIZE);
+        if (loop != null) {
+            paintSnapshot(g, loop.getSnapshot());
+            return;
+        }
+        if (textRendering) {
+            synchronized (Creatures) {
+                paintFrame.capture(engine);
             }
+            paintSnapshot(g, paintFrame);
+            return;
+        }
+
+        SpriteAtlas atlas = getSprites();
+        for (Creature creature : Creatures) {
+            atlas.draw(g, creature);
+        }
+    }
+
+    /**
+     * Desenha um quadro da simulação: os corpos copiados do {@link SpriteAtlas} e depois o
+     * ouro de todas as criaturas pelo {@link GoldTextRenderer}.
+     *
+     * @param g     Objeto gráfico.
+     * @param frame Quadro a desenhar.
+     */
+    private void paintSnapshot(Graphics g, SimulationSnapshot frame) {
+        SpriteAtlas atlas = getSprites();
+        for (int i = 0, n = frame.size(); i < n; i++) {
+            atlas.draw(g, frame.kind(i), frame.x(i), frame.y(i));
+        }
+        goldText.draw(g, frame);
+    }
+
+    /**
+     * Retorna o atlas de formas, criando-o compatível com a tela na primeira chamada.
+     *
+     * @return Atlas de formas.
+     */
+    private SpriteAtlas getSprites() {
+        if (sprites == null) {
+            sprites = new SpriteAtlas(CREATURE_SIZE, getGraphicsConfiguration());
+        }
+        return sprites;
+    }
+
+    /**
+     * Pede a repintura apenas da região alterada pelo último quadro do laço, ou do painel
+     * inteiro se ela não for conhecida. Pode ser chamado fora da EDT.
+     */
+    private void repaintDirty() {
+        SimulationLoop current = loop;
+        Rectangle dirty = current == null ? null : current.getDirtyBounds();
+        if (dirty == null) {
+            repaint();
+        } else {
+            repaint(dirty.x, dirty.y, dirty.width, dirty.height);
         }
     }
 
@@ -462,14 +297,7 @@ public class CreaturesPanel extends JPanel {
      * @param remove Bola a ser removida.
      */
     public boolean removeCreature(Creature remove) {
-        synchronized (Creatures) {
-            if (Creatures.size() <= 1 || remove.isGuardian) {
-                return false;
-            }
-            this.remove(remove.label);
-            Creatures.remove(remove);
-            return true;
-        }
+        return engine.removeCreature(remove);
     }
 
     /**
@@ -478,22 +306,30 @@ public class CreaturesPanel extends JPanel {
      * @return Última bola da lista.
      */
     public Creature getLast() {
-        synchronized (Creatures) {
-            if (Creatures.isEmpty()) {
-                return null;
-            }
-            return Creatures.getLast();
-        }
+        return engine.getLast();
+    }
+
+    /**
+     * Inicia a simulação com o guardião em uma posição sorteada pelo motor.
+     *
+     * @return true se a simulação foi iniciada.
+     */
+    public boolean initSimulation() {
+        return initSimulation(engine.randomX());
     }
 
     public boolean initSimulation(int randomX) {
         synchronized (Creatures){
-            if(!startSimulation) {
-                startSimulation = true;
-                moveIndex = 0;
+            int creatures = Creatures.size();
+            if(engine.start(randomX)) {
+                runStart = System.nanoTime();
+                runCreatures = creatures;
                 user.addSimulations();
                 bd.editUserByUsername(user.getUserName(), user);
-                createGuardian(randomX);
+                if (loop != null) {
+                    startSimulationLoop(loopHz); // Recria o laço se a simulação anterior o parou
+                    return true; // O laço passa a executar a lógica sozinho
+                }
                 startUpdateTimer();
 
                 if (phisycsTimer == null){
@@ -507,12 +343,14 @@ public class CreaturesPanel extends JPanel {
     }
 
     public boolean stopSimulation(){
-        if(!startSimulation){
+        if (loop != null) {
+            loop.stop();
+        }
+        if(!engine.stop()){
             System.err.println("Simulação ainda nao começou");
             return false;
         } //Se simulação nao começou, nao tem como parar
 
-        startSimulation = false; //Para simulação que começou
         //Para os timers
         if((updateTimer != null && phisycsTimer != null) && (updateTimer.isRunning() && phisycsTimer.isRunning())) {
             updateTimer.stop();
@@ -522,7 +360,7 @@ public class CreaturesPanel extends JPanel {
         //System.err.println(user.getSIMULATIONS() + " / " + user.getPoints() + " / " + user.getSUCCESS_SIMULATIONS());
         boolean ret;
         String msg;
-        if(user.getPoints() >= 500){
+        if(user.getPoints() >= SimulationEngine.GOAL_POINTS){
             user.addSuccesSimulations();
             msg = "Objetivo: 500 pontos | Resultado: " + user.getPoints() + " | == Vitoria";
             ret = true;
@@ -531,7 +369,10 @@ public class CreaturesPanel extends JPanel {
             ret = false;
         }
         System.err.println(user.getSIMULATIONS() + " / " + user.getPoints() + " / " + user.getSUCCESS_SIMULATIONS());
+        bd.appendRun(new SimulationRun(user.getUserName(), seed, runCreatures, engine.getInteractions(),
+                user.getPoints(), ret, (System.nanoTime() - runStart) / 1_000_000L));
         user.setPoints(0.0);
+        newSeed(); // As criaturas da próxima simulação já saem da nova semente
         JOptionPane.showMessageDialog(this, msg);
         bd.editUserByUsername(user.getUserName(), user);
         return ret;
@@ -544,10 +385,7 @@ public class CreaturesPanel extends JPanel {
      * @return Posição X em pixels na tela.
      */
     public int calcNextPosition(Creature Creature) {
-        double rawTarget = calcTarget(Creature);
-        double normalized = normalizedTarget(rawTarget);
-        int screenTarget = (int) (normalized * (getWidth() - CREATURE_SIZE));
-        return Math.max(0, Math.min(screenTarget, getWidth() - CREATURE_SIZE));
+        return engine.calcNextPosition(Creature);
     }
 
     /**
@@ -557,10 +395,7 @@ public class CreaturesPanel extends JPanel {
      * @return Valor normalizado entre 0 e 1.
      */
     public double normalizedTarget(double noNormalizedTarget) {
-        int minX = -1000000;
-        int maxX = 1000000;
-        int range = maxX - minX;
-        return (noNormalizedTarget - minX) / range;
+        return engine.normalizedTarget(noNormalizedTarget);
     }
 
     public void setLabelText(Creature aux){
@@ -574,42 +409,139 @@ public class CreaturesPanel extends JPanel {
      * Inicia o timer de atualização lógica (roubos e movimentação).
      */
     public void startUpdateTimer() {
-        updateTimer = new Timer(3000, e -> update());
+        updateTimer = new Timer(SimulationEngine.UPDATE_INTERVAL, e -> update());
         updateTimer.start();
     }
 
+    /**
+     * Alterna entre os {@link JLabel}s de ouro (um componente Swing por criatura, alterado
+     * a cada tick) e o ouro desenhado diretamente em {@link #paintComponent(Graphics)} com
+     * textos em cache, sem nenhum componente por criatura.
+     *
+     * @param enabled true para desenhar o ouro sem rótulos.
+     */
+    public void setTextRendering(boolean enabled) {
+        synchronized (Creatures) {
+            if (textRendering == enabled) return;
+            textRendering = enabled;
+            if (enabled) {
+                engine.setListener(SimulationListener.NONE);
+                for (Creature creature : Creatures) {
+                    if (creature.label != null) remove(creature.label);
+                }
+            } else {
+                engine.setListener(labelUpdater);
+                for (Creature creature : Creatures) {
+                    labelUpdater.creatureAdded(creature);
+                }
+            }
+        }
+        repaint();
+    }
+
+    /**
+     * Passa a simulação para um {@link SimulationLoop} de passo fixo em thread própria, no
+     * lugar dos timers. O ouro passa a ser desenhado (ver {@link #setTextRendering(boolean)})
+     * a partir dos quadros publicados pelo laço, e cada rodada de roubo começa assim que as
+     * criaturas param, respeitando {@link SimulationEngine#UI_MIN_ROUND_TICKS} para que a
+     * rodada possa ser acompanhada (ver {@link SimulationEngine#setEventDrivenRounds(boolean, int)}).
+     * O pulo passa a ser calculado apenas para os quadros publicados
+     * (ver {@link SimulationEngine#setClosedFormBounce(boolean)}) e todas as criaturas
+     * liberadas andam ao mesmo tempo, de modo que a rodada dura o tempo da mais distante
+     * (ver {@link SimulationEngine#setConcurrentMovement(boolean)}).
+     *
+     * <p>Se um laço anterior já terminou (por exemplo, ao fim de uma simulação), um novo laço
+     * é criado no lugar dele.</p>
+     *
+     * @param hz Ticks de física por segundo (ver {@link SimulationLoop#DEFAULT_HZ}).
+     */
+    public void startSimulationLoop(double hz) {
+        if (loop != null && loop.isRunning()) return;
+        if (phisycsTimer != null) phisycsTimer.stop();
+        if (updateTimer != null) updateTimer.stop();
+
+        setTextRendering(true);
+        engine.setEventDrivenRounds(true, SimulationEngine.UI_MIN_ROUND_TICKS);
+        engine.setClosedFormBounce(true);
+        engine.setConcurrentMovement(true);
+        loopHz = hz;
+        loop = new SimulationLoop(engine, hz, this::repaintDirty,
+                () -> SwingUtilities.invokeLater(this::checkEndCondition));
+        loop.start();
+    }
+
     /**
      * Inicia o timer de atualização física (gravidade e pulo).
      */
     public void startPhisycsTimer() {
-        phisycsTimer = new Timer(10, e -> phisycsUpdate());
+        phisycsTimer = new Timer(SimulationEngine.PHYSICS_INTERVAL, e -> phisycsUpdate());
         phisycsTimer.start();
     }
 
+    /**
+     * Encerra a simulação se o motor indicar o fim. O estado é lido com o monitor de
+     * {@link #Creatures}, mas o diálogo e {@link #stopSimulation()} rodam sem ele, para não
+     * bloquear o {@link SimulationLoop} enquanto o diálogo está aberto.
+     *
+     * @return O resultado de {@link #stopSimulation()}, ou false se a simulação não terminou.
+     */
     public boolean checkEndCondition() {
+        boolean finished;
         synchronized (Creatures) {
-            if (!startSimulation) return false;
-
-            int normalCount = 0;
-            Creature normalCreature = null;
-            Creature guardian = null;
-
-            for (Creature c : Creatures) {
-                if (c.isGuardian) {
-                    guardian = c;
-                } else {
-                    normalCount++;
-                    normalCreature = c;
-                }
+            finished = engine.isFinished();
+        }
+        if (!finished) {
+            return false;
+        }
+        JOptionPane.showMessageDialog(this, "FIM DA SIMULAÇÃO!");
+        return stopSimulation();
+    }
+
+    /**
+     * Mantém os {@link JLabel}s de ouro das criaturas em sincronia com os eventos do motor.
+     */
+    private class LabelUpdater implements SimulationListener {
+
+        @Override
+        public void creatureAdded(Creature creature) {
+            if (creature.label == null) {
+                JLabel label = new JLabel();
+                label.setForeground(GOLD_COLOR);
+                label.setBounds(creature.x, groundY - 20, CREATURE_SIZE, 20);
+                label.setHorizontalAlignment(SwingConstants.CENTER);
+                creature.label = label;
             }
+            setLabelText(creature);
+        }
 
-            if ((normalCount == 1 && guardian != null  /*&& guardian.gold > normalCreature.gold*/) || interacao >= maxInteration) {
-                JOptionPane.showMessageDialog(this, "FIM DA SIMULAÇÃO!");
-                return stopSimulation();
+        @Override
+        public void creatureChanged(Creature creature) {
+            if (creature.label != null) {
+                remove(creature.label);
+                setLabelText(creature);
             }
         }
-        return false;
-    }
 
+        @Override
+        public void creatureRemoved(Creature creature) {
+            if (creature.label != null) {
+                remove(creature.label);
+            }
+        }
 
+        @Override
+        public void creatureMoving(Creature creature, boolean moving) {
+            if (creature.label != null) {
+                creature.label.setForeground(moving ? MOVING_COLOR : GOLD_COLOR);
+            }
+        }
+
+        @Override
+        public void creatureMoved(Creature creature) {
+            if (creature.label != null) {
+                setLabelText(creature);
+                creature.label.setBounds(creature.x, engine.bounceY(creature) - 20, CREATURE_SIZE, 20);
+            }
+        }
+    }
 }
@@ -0,0 +1,97 @@
+package org.example.model;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * Desenha o ouro das criaturas diretamente no {@link Graphics}, sem {@code JLabel}s.
+ *
+ * <p>Mantém, para cada posição do quadro, o último valor de ouro formatado, o texto e a
+ * largura medida; o texto só é formatado e medido de novo quando o ouro daquela posição
+ * muda (ou quando a fonte muda). O desenho é feito em lote: todos os textos brancos com uma
+ * única troca de cor e, por fim, o texto da criatura que está se movendo em vermelho.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see CreaturesPanel
+ * @see SimulationSnapshot
+ */
+public class GoldTextRenderer {
+
+    /** Altura da faixa do texto acima da criatura (a mesma do antigo rótulo). */
+    private static final int TEXT_HEIGHT = 20;
+
+    /** Último ouro formatado em cada posição. */
+    private double[] lastGold = new double[0];
+
+    /** Texto formatado em cada posição. */
+    private String[] text = new String[0];
+
+    /** Largura do texto em cada posição, na fonte {@link #font}. */
+    private int[] width = new int[0];
+
+    /** Fonte usada nas medições em cache. */
+    private Font font;
+
+    /**
+     * Formata o ouro como no antigo rótulo da criatura.
+     *
+     * @param gold Ouro da criatura.
+     * @return Texto exibido.
+     */
+    public static String format(double gold) {
+        return "G: " + (gold / 1000);
+    }
+
+    /**
+     * Desenha o ouro de todas as criaturas do quadro, centralizado acima de cada uma.
+     *
+     * @param g     Objeto gráfico.
+     * @param frame Quadro a desenhar.
+     */
+    public void draw(Graphics g, SimulationSnapshot frame) {
+        int n = frame.size();
+        FontMetrics fm = g.getFontMetrics();
+        prepare(n, fm);
+
+        for (int i = 0; i < n; i++) {
+            double gold = frame.gold(i);
+            if (text[i] == null || Double.doubleToRawLongBits(gold) != Double.doubleToRawLongBits(lastGold[i])) {
+                lastGold[i] = gold;
+                text[i] = format(gold);
+                width[i] = fm.stringWidth(text[i]);
+            }
+        }
+
+        int baseline = (TEXT_HEIGHT + fm.getAscent()) / 2 - TEXT_HEIGHT;
+        int moving = frame.movingIndex();
+
+        g.setColor(CreaturesPanel.GOLD_COLOR);
+        for (int i = 0; i < n; i++) {
+            if (i != moving) {
+                g.drawString(text[i], frame.x(i) + (CreaturesPanel.CREATURE_SIZE - width[i]) / 2, frame.y(i) + baseline);
+            }
+        }
+        if (moving >= 0 && moving < n) {
+            g.setColor(CreaturesPanel.MOVING_COLOR);
+            g.drawString(text[moving], frame.x(moving) + (CreaturesPanel.CREATURE_SIZE - width[moving]) / 2,
+                    frame.y(moving) + baseline);
+        }
+    }
+
+    /**
+     * Garante capacidade para {@code n} posições e invalida as larguras se a fonte mudou.
+     */
+    private void prepare(int n, FontMetrics fm) {
+        if (text.length < n) {
+            int capacity = Math.max(n, text.length * 2);
+            lastGold = Arrays.copyOf(lastGold, capacity);
+            text = Arrays.copyOf(text, capacity);
+            width = Arrays.copyOf(width, capacity);
+        }
+        if (!fm.getFont().equals(font)) {
+            font = fm.getFont();
+            Arrays.fill(text, null);
+        }
+    }
+}
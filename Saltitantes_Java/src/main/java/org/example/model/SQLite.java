@@ -2,6 +2,8 @@ package org.example.model;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Classe responsável por gerenciar o acesso e a manipulação de dados no banco de dados SQLite.
@@ -9,41 +11,154 @@ import java.util.ArrayList;
  * <p>Ela encapsula todas as operações de persistência dos usuários, incluindo criação de tabela,
  * inserção, remoção, busca, edição e listagem. Toda a comunicação é realizada via JDBC.</p>
  *
- * <p>O banco de dados utilizado é um arquivo local chamado <code>base.db</code>.</p>
+ * <p>O banco de dados utilizado é um arquivo local chamado <code>base.db</code>. Quando criada a
+ * partir de uma {@link SQLiteDataSource}, a instância apenas empresta uma conexão do pool e
+ * a devolve em {@link #close()}.</p>
+ *
+ * <p>Os comandos SQL são preparados uma única vez por conexão e reaproveitados pelo
+ * {@link StatementCache}; os {@code ResultSet}s são fechados ao fim de cada consulta. Com
+ * uma fonte compartilhada, as edições de usuários são gravadas em segundo plano pelo
+ * {@link UserWriteBehind}, e as leituras e remoções gravam antes as edições pendentes.</p>
  *
  * @author ValentinaClash
  * @version 1.0
  * @see User
+ * @see SQLiteDataSource
  */
 public class SQLite {
 
     /** URL de conexão com o banco de dados SQLite. */
     private final String url = "jdbc:sqlite:base.db";
 
+    /**
+     * Coluna gerada com a taxa de sucesso, calculada pelo SQLite a cada inserção ou edição
+     * (como {@link User#getSuccessRate()}).
+     */
+    private static final String SUCCESS_RATE_COLUMN = "success_rate REAL GENERATED ALWAYS AS "
+            + "(CASE WHEN simulations > 0 THEN CAST(success AS REAL) / simulations ELSE 0 END) VIRTUAL";
+
     /** Comando SQL para criar a tabela de usuários, se ainda não existir. */
-    private final String sqlTable = "CREATE TABLE IF NOT EXISTS users (" +
+    static final String SQL_TABLE = "CREATE TABLE IF NOT EXISTS users (" +
             "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
             "username TEXT NOT NULL UNIQUE, " +
             "password TEXT NOT NULL, " +
             "avatar TEXT, " +
             "simulations INTEGER, " +
             "success INTEGER," +
-            "totalpoints DOUBLE)";
+            "totalpoints DOUBLE, " +
+            SUCCESS_RATE_COLUMN + ")";
+
+    /** Índice do ranking: pontuação decrescente e, no empate, nome de usuário. */
+    static final String SQL_LEADERBOARD_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_users_leaderboard ON users(totalpoints DESC, username)";
+
+    /** Índice do ranking por taxa de sucesso; no empate, pontuação e nome de usuário. */
+    static final String SQL_SUCCESS_RATE_INDEX = "CREATE INDEX IF NOT EXISTS idx_users_success_rate "
+            + "ON users(success_rate DESC, totalpoints DESC, username)";
+
+    /** Comando SQL para criar a tabela do histórico de simulações, se ainda não existir. */
+    static final String SQL_RUNS_TABLE = "CREATE TABLE IF NOT EXISTS simulation_runs (" +
+            "id INTEGER PRIMARY KEY AUTOINCREMENT, " +
+            "username TEXT NOT NULL, " +
+            "seed INTEGER, " +
+            "creatures INTEGER, " +
+            "iterations INTEGER, " +
+            "points DOUBLE, " +
+            "victory INTEGER, " +
+            "duration_ms INTEGER)";
+
+    /** Índice do histórico: simulações de cada usuário na ordem de gravação. */
+    static final String SQL_RUNS_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_simulation_runs_user ON simulation_runs(username, id)";
+
+    /** Comando SQL de inserção de uma simulação no histórico. */
+    static final String SQL_INSERT_RUN = "INSERT INTO simulation_runs"
+            + "(username, seed, creatures, iterations, points, victory, duration_ms) VALUES(?,?,?,?,?,?,?)";
+
+    /** Colunas e ordem do ranking; {@code username} desempata e torna a ordem total. */
+    private static final String LEADERBOARD_SELECT =
+            "SELECT username, simulations, success, totalpoints FROM users ";
+
+    /** Ordem e limite do ranking. */
+    private static final String LEADERBOARD_ORDER = "ORDER BY totalpoints DESC, username LIMIT ?";
+
+    /** Comando SQL de inserção de um usuário. */
+    static final String SQL_INSERT =
+            "INSERT INTO users(username, password, avatar, simulations, success, totalpoints) VALUES(?,?,?,?,?, ?)";
+
+    /** Comando SQL de edição de um usuário pelo nome. */
+    static final String SQL_EDIT =
+            "UPDATE users SET password = ?, avatar = ?, simulations = ?, success = ?, totalpoints = ? WHERE username = ?";
 
     /** Conexão ativa com o banco de dados. */
     private final Connection connection;
 
+    /** Fonte que emprestou a conexão, ou {@code null} se a conexão é própria. */
+    private final SQLiteDataSource dataSource;
+
+    /** Comandos preparados da conexão, reaproveitados entre chamadas. */
+    private final StatementCache statements;
+
+    /** Indica se a conexão já foi fechada ou devolvida. */
+    private boolean closed = false;
+
     /**
      * Construtor padrão. Inicializa a conexão com o banco de dados e cria a tabela de usuários, se necessário.
      */
     public SQLite() throws SQLException {
 
             connection = DriverManager.getConnection(url);
-            Statement stmt = connection.createStatement();
-            stmt.execute(sqlTable);
+            dataSource = null;
+            statements = new StatementCache(connection);
+            createSchema(connection);
 
     }
 
+    /**
+     * Cria as tabelas de usuários e do histórico de simulações e seus índices, se ainda não
+     * existirem.
+     *
+     * @param connection Conexão com o banco.
+     */
+    static void createSchema(Connection connection) throws SQLException {
+        try (Statement stmt = connection.createStatement()) {
+            stmt.execute(SQL_TABLE);
+            if (!hasColumn(stmt, "success_rate")) {
+                // Bancos criados antes da coluna gerada: colunas VIRTUAL podem ser adicionadas.
+                stmt.execute("ALTER TABLE users ADD COLUMN " + SUCCESS_RATE_COLUMN);
+            }
+            stmt.execute(SQL_LEADERBOARD_INDEX);
+            stmt.execute(SQL_SUCCESS_RATE_INDEX);
+            stmt.execute(SQL_RUNS_TABLE);
+            stmt.execute(SQL_RUNS_INDEX);
+        }
+    }
+
+    /**
+     * Verifica se a tabela de usuários já tem a coluna informada (incluindo colunas geradas).
+     */
+    private static boolean hasColumn(Statement stmt, String column) throws SQLException {
+        try (ResultSet columns = stmt.executeQuery("PRAGMA table_xinfo(users)")) {
+            while (columns.next()) {
+                if (column.equalsIgnoreCase(columns.getString("name"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Empresta uma conexão da fonte compartilhada. O esquema já foi garantido pela fonte.
+     *
+     * @param dataSource Fonte de conexões da aplicação.
+     */
+    public SQLite(SQLiteDataSource dataSource) throws SQLException {
+        this.dataSource = dataSource;
+        this.connection = dataSource.getConnection();
+        this.statements = dataSource.statements(connection);
+    }
+
     /**
      * Insere um novo usuário na tabela.
      *
@@ -52,8 +167,7 @@ public class SQLite {
      */
     public boolean insertIntoUsers(User user) {
         try {
-            PreparedStatement insert = connection.prepareStatement(
-                    "INSERT INTO users(username, password, avatar, simulations, success, totalpoints) VALUES(?,?,?,?,?, ?)");
+            PreparedStatement insert = prepare(SQL_INSERT);
 
             insert.setString(1, user.getUserName());
             insert.setString(2, user.getPassWord());
@@ -70,18 +184,26 @@ public class SQLite {
     }
 
     /**
-     * Remove um usuário do banco de dados com base no nome de usuário.
+     * Remove um usuário do banco de dados com base no nome de usuário, junto com o seu
+     * histórico de simulações.
      *
      * @param username Nome de usuário a ser deletado.
      */
     public void deleteUserByUsername(String username) throws SQLException {
+            flushPending();
 
-            PreparedStatement delete = connection.prepareStatement(
+            PreparedStatement delete = prepare(
                     "DELETE FROM users WHERE username = ?"
             );
             delete.setString(1, username);
             delete.executeUpdate();
 
+            PreparedStatement deleteRuns = prepare(
+                    "DELETE FROM simulation_runs WHERE username = ?"
+            );
+            deleteRuns.setString(1, username);
+            deleteRuns.executeUpdate();
+
     }
 
     /**
@@ -91,49 +213,88 @@ public class SQLite {
      * @return Instância de {@link User} se encontrado, {@code null} caso contrário.
      */
     public User findUserByUsername(String username) throws SQLException {
+            flushPending();
 
-            PreparedStatement find = connection.prepareStatement(
+            PreparedStatement find = prepare(
                     "SELECT * FROM users WHERE username = ?");
 
             find.setString(1, username);
-            ResultSet resultSet = find.executeQuery();
-
-            if (resultSet.next()) {
-                return new User(
-                        resultSet.getString("username"),
-                        resultSet.getString("password"),
-                        resultSet.getString("avatar"),
-                        resultSet.getInt("simulations"),
-                        resultSet.getInt("success"),
-                        resultSet.getDouble("totalpoints"));
+            try (ResultSet resultSet = find.executeQuery()) {
+                if (resultSet.next()) {
+                    return new User(
+                            resultSet.getString("username"),
+                            resultSet.getString("password"),
+                            resultSet.getString("avatar"),
+                            resultSet.getInt("simulations"),
+                            resultSet.getInt("success"),
+                            resultSet.getDouble("totalpoints"));
+                }
             }
 
-
         return null;
     }
 
     /**
-     * Retorna todos os usuários cadastrados no banco de dados.
+     * Busca as estatísticas de um usuário, sem senha nem avatar.
+     *
+     * @param username Nome de usuário a ser buscado.
+     * @return Estatísticas do usuário, ou {@code null} se não encontrado ou em caso de erro.
+     */
+    public UserStats findUserStatsByUsername(String username) {
+        flushPending();
+        try {
+            PreparedStatement find = prepare(
+                    "SELECT username, simulations, success, totalpoints FROM users WHERE username = ?");
+            find.setString(1, username);
+            List<UserStats> stats = readStats(find);
+            return stats.isEmpty() ? null : stats.getFirst();
+        } catch (SQLException e) {
+            System.err.println("Não foi possível buscar o usuário: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retorna as estatísticas de todos os usuários, sem senha nem avatar, na ordem do ranking.
+     * Para listas grandes, prefira as páginas de {@link #getLeaderboard(int)}.
+     *
+     * @return Estatísticas dos usuários (vazia se não houver usuários), ou {@code null} em caso de erro.
+     */
+    public List<UserStats> getAllUserStats() {
+        flushPending();
+        try {
+            return readStats(prepare(LEADERBOARD_SELECT + "ORDER BY totalpoints DESC, username"));
+        } catch (SQLException e) {
+            System.err.println("Não foi possível retornar nenhum usuário: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retorna todos os usuários cadastrados no banco de dados, como entidades completas.
+     * Para apenas exibir dados, prefira {@link #getAllUserStats()}.
      *
      * @return Lista de usuários ou {@code null} se ocorrer erro ou não houver usuários.
      */
     public ArrayList<User> getAllUsers() {
+        flushPending();
         try {
-            PreparedStatement find = connection.prepareStatement(
+            PreparedStatement find = prepare(
                     "SELECT * FROM users");
-            ResultSet resultSet = find.executeQuery();
             ArrayList<User> aux = new ArrayList<>();
 
-            while (resultSet.next()) {
-                User user = new User(
-                        resultSet.getString("username"),
-                        resultSet.getString("password"),
-                        resultSet.getString("avatar"),
-                        resultSet.getInt("simulations"),
-                        resultSet.getInt("success"),
-                        resultSet.getDouble("totalpoints")
-                );
-                aux.add(user);
+            try (ResultSet resultSet = find.executeQuery()) {
+                while (resultSet.next()) {
+                    User user = new User(
+                            resultSet.getString("username"),
+                            resultSet.getString("password"),
+                            resultSet.getString("avatar"),
+                            resultSet.getInt("simulations"),
+                            resultSet.getInt("success"),
+                            resultSet.getDouble("totalpoints")
+                    );
+                    aux.add(user);
+                }
             }
 
             return aux.isEmpty() ? null : aux;
@@ -144,17 +305,169 @@ public class SQLite {
         }
     }
 
+    /**
+     * Retorna a primeira página do ranking: usuários ordenados pela pontuação total
+     * (decrescente) e, no empate, pelo nome. Lê apenas as colunas do ranking, pelo índice
+     * {@code idx_users_leaderboard}.
+     *
+     * @param limit Tamanho máximo da página.
+     * @return Página do ranking (vazia se não houver usuários), ou {@code null} em caso de erro.
+     */
+    public List<UserStats> getLeaderboard(int limit) {
+        return getLeaderboardAfter(null, limit);
+    }
+
+    /**
+     * Retorna a página do ranking que começa logo após o usuário informado (paginação por
+     * chave: custo proporcional ao tamanho da página, e não à posição no ranking).
+     *
+     * @param last  Último usuário da página anterior, ou {@code null} para a primeira página.
+     * @param limit Tamanho máximo da página.
+     * @return Página do ranking, ou {@code null} em caso de erro.
+     */
+    public List<UserStats> getLeaderboardAfter(UserStats last, int limit) {
+        flushPending();
+        try {
+            PreparedStatement page;
+            if (last == null) {
+                page = prepare(LEADERBOARD_SELECT + LEADERBOARD_ORDER);
+                page.setInt(1, limit);
+            } else {
+                page = prepare(LEADERBOARD_SELECT
+                        + "WHERE totalpoints <= ? AND (totalpoints < ? OR username > ?) " + LEADERBOARD_ORDER);
+                page.setDouble(1, last.totalPoints());
+                page.setDouble(2, last.totalPoints());
+                page.setString(3, last.userName());
+                page.setInt(4, limit);
+            }
+            return readStats(page);
+        } catch (SQLException e) {
+            System.err.println("Não foi possível ler o ranking: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retorna a página do ranking a partir de uma posição qualquer (paginação por deslocamento,
+     * para saltos; prefira {@link #getLeaderboardAfter(UserStats, int)} ao avançar em sequência).
+     *
+     * @param offset Posição (a partir de 0) do primeiro usuário da página.
+     * @param limit  Tamanho máximo da página.
+     * @return Página do ranking, ou {@code null} em caso de erro.
+     */
+    public List<UserStats> getLeaderboardPage(int offset, int limit) {
+        flushPending();
+        try {
+            PreparedStatement page = prepare(LEADERBOARD_SELECT + LEADERBOARD_ORDER + " OFFSET ?");
+            page.setInt(1, limit);
+            page.setInt(2, offset);
+            return readStats(page);
+        } catch (SQLException e) {
+            System.err.println("Não foi possível ler o ranking: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retorna os primeiros usuários do ranking por taxa de sucesso (decrescente); no empate,
+     * pela pontuação e pelo nome. Lido pelo índice {@code idx_users_success_rate}, sem
+     * calcular a taxa de cada usuário.
+     *
+     * @param limit Quantidade máxima de usuários.
+     * @return Usuários em ordem, ou {@code null} em caso de erro.
+     */
+    public List<UserStats> getSuccessRateLeaderboard(int limit) {
+        flushPending();
+        try {
+            PreparedStatement top = prepare(LEADERBOARD_SELECT
+                    + "ORDER BY success_rate DESC, totalpoints DESC, username LIMIT ?");
+            top.setInt(1, limit);
+            return readStats(top);
+        } catch (SQLException e) {
+            System.err.println("Não foi possível ler o ranking: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Retorna a posição do usuário no ranking de {@link #getLeaderboard(int)}. A posição é a
+     * quantidade de usuários à frente, contada no índice do ranking a partir do topo, sem ler
+     * a tabela nem ordenar.
+     *
+     * <p>O SQLite não guarda contagens nos nós do índice, então o {@code COUNT(*)} percorre
+     * todas as entradas à frente do usuário: o custo é O(posição), barato perto do topo mas
+     * proporcional ao tamanho da tabela para os últimos colocados.</p>
+     *
+     * @param username Nome do usuário.
+     * @return Posição a partir de 1, ou 0 se o usuário não existe ou em caso de erro.
+     */
+    public int getRank(String username) {
+        UserStats me = findUserStatsByUsername(username);
+        if (me == null) {
+            return 0;
+        }
+        try {
+            PreparedStatement ahead = prepare("SELECT COUNT(*) FROM users "
+                    + "WHERE totalpoints >= ? AND (totalpoints > ? OR username < ?)");
+            ahead.setDouble(1, me.totalPoints());
+            ahead.setDouble(2, me.totalPoints());
+            ahead.setString(3, me.userName());
+            try (ResultSet resultSet = ahead.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(1) + 1 : 0;
+            }
+        } catch (SQLException e) {
+            System.err.println("Não foi possível calcular a posição no ranking: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Conta os usuários cadastrados.
+     *
+     * @return Quantidade de usuários, ou 0 em caso de erro.
+     */
+    public int countUsers() {
+        flushPending();
+        try (ResultSet resultSet = prepare("SELECT COUNT(*) FROM users").executeQuery()) {
+            return resultSet.next() ? resultSet.getInt(1) : 0;
+        } catch (SQLException e) {
+            System.err.println("Não foi possível contar os usuários: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Lê as linhas de uma consulta do ranking.
+     */
+    private static List<UserStats> readStats(PreparedStatement query) throws SQLException {
+        List<UserStats> stats = new ArrayList<>();
+        try (ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                stats.add(new UserStats(
+                        resultSet.getString(1),
+                        resultSet.getInt(2),
+                        resultSet.getInt(3),
+                        resultSet.getDouble(4)));
+            }
+        }
+        return stats;
+    }
+
     /**
      * Edita os dados de um usuário existente com base no nome de usuário.
      *
      * @param username    Nome do usuário a ser editado.
      * @param editedUser  Objeto {@link User} com os novos dados.
-     * @return {@code true} se a atualização for bem-sucedida, {@code false} em caso de erro.
+     * @return {@code true} se a atualização for bem-sucedida (ou enfileirada), {@code false} em caso de erro.
      */
     public boolean editUserByUsername(String username, User editedUser) {
         try {
-            PreparedStatement edit = connection.prepareStatement(
-                    "UPDATE users SET password = ?, avatar = ?, simulations = ?, success = ?, totalpoints = ? WHERE username = ?");
+            ensureOpen();
+            if (dataSource != null) {
+                dataSource.getWriteBehind().enqueue(username, editedUser);
+                return true;
+            }
+            PreparedStatement edit = prepare(SQL_EDIT);
             edit.setString(1, editedUser.getPassWord());
             edit.setString(2, editedUser.getAvatarname());
             edit.setInt(3, editedUser.getSIMULATIONS());
@@ -170,9 +483,240 @@ public class SQLite {
     }
 
     /**
-     * Fecha a conexão com o banco de dados se ela estiver aberta.
+     * Insere vários usuários em uma única transação.
+     *
+     * @param users Usuários a serem inseridos.
+     * @return Quantidade de usuários inseridos, ou -1 em caso de erro (nenhum é inserido).
+     */
+    public int insertUsers(Collection<User> users) {
+        try {
+            return inTransaction(() -> {
+                PreparedStatement insert = prepare(SQL_INSERT);
+                for (User user : users) {
+                    insert.setString(1, user.getUserName());
+                    insert.setString(2, user.getPassWord());
+                    insert.setString(3, user.getAvatarname());
+                    insert.setInt(4, user.getSIMULATIONS());
+                    insert.setInt(5, user.getSUCCESS_SIMULATIONS());
+                    insert.setDouble(6, user.getTotalPoints());
+                    insert.addBatch();
+                }
+                return sum(insert.executeBatch());
+            });
+        } catch (SQLException e) {
+            System.err.println("Não foi possível adicionar: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Edita vários usuários, identificados pelo nome, em uma única transação e sem passar
+     * pela fila de gravação assíncrona.
+     *
+     * @param users Usuários com os novos dados.
+     * @return Quantidade de usuários editados, ou -1 em caso de erro (nenhum é editado).
+     */
+    public int editUsers(Collection<User> users) {
+        flushPending();
+        try {
+            return inTransaction(() -> {
+                PreparedStatement edit = prepare(SQL_EDIT);
+                for (User user : users) {
+                    edit.setString(1, user.getPassWord());
+                    edit.setString(2, user.getAvatarname());
+                    edit.setInt(3, user.getSIMULATIONS());
+                    edit.setInt(4, user.getSUCCESS_SIMULATIONS());
+                    edit.setDouble(5, user.getTotalPoints());
+                    edit.setString(6, user.getUserName());
+                    edit.addBatch();
+                }
+                return sum(edit.executeBatch());
+            });
+        } catch (SQLException e) {
+            System.err.println("Não foi possível editar: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Acrescenta uma simulação ao histórico. Com uma {@link SQLiteDataSource}, o resultado
+     * passa pelo {@link SimulationRunWriter} e é gravado em lote, em segundo plano.
+     *
+     * @param run Resultado da simulação.
+     * @return {@code true} se o resultado foi aceito, {@code false} em caso de erro.
+     */
+    public boolean appendRun(SimulationRun run) {
+        try {
+            ensureOpen();
+            if (dataSource != null) {
+                dataSource.getRunWriter().append(run);
+                return true;
+            }
+            PreparedStatement insert = prepare(SQL_INSERT_RUN);
+            bindRun(insert, run);
+            insert.executeUpdate();
+            return true;
+        } catch (SQLException e) {
+            System.err.println("Não foi possível gravar a simulação: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Retorna as últimas simulações de um usuário, da mais recente para a mais antiga, pelo
+     * índice {@code idx_simulation_runs_user}.
+     *
+     * @param username Nome do usuário.
+     * @param limit    Quantidade máxima de simulações.
+     * @return Simulações do usuário, ou {@code null} em caso de erro.
+     */
+    public List<SimulationRun> getRunHistory(String username, int limit) {
+        flushPending();
+        try {
+            PreparedStatement history = prepare(
+                    "SELECT username, seed, creatures, iterations, points, victory, duration_ms "
+                            + "FROM simulation_runs WHERE username = ? ORDER BY id DESC LIMIT ?");
+            history.setString(1, username);
+            history.setInt(2, limit);
+            List<SimulationRun> runs = new ArrayList<>();
+            try (ResultSet resultSet = history.executeQuery()) {
+                while (resultSet.next()) {
+                    runs.add(new SimulationRun(
+                            resultSet.getString(1),
+                            resultSet.getLong(2),
+                            resultSet.getInt(3),
+                            resultSet.getInt(4),
+                            resultSet.getDouble(5),
+                            resultSet.getInt(6) != 0,
+                            resultSet.getLong(7)));
+                }
+            }
+            return runs;
+        } catch (SQLException e) {
+            System.err.println("Não foi possível ler o histórico: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Calcula as estatísticas do histórico de simulações de um usuário.
+     *
+     * @param username Nome do usuário.
+     * @return Estatísticas (zeradas se não houver simulações), ou {@code null} em caso de erro.
+     */
+    public SimulationRunStats getRunStats(String username) {
+        flushPending();
+        try {
+            PreparedStatement stats = prepare(
+                    "SELECT COUNT(*), COALESCE(SUM(victory), 0), COALESCE(AVG(points), 0), "
+                            + "COALESCE(MAX(points), 0), COALESCE(AVG(duration_ms), 0) "
+                            + "FROM simulation_runs WHERE username = ?");
+            stats.setString(1, username);
+            try (ResultSet resultSet = stats.executeQuery()) {
+                resultSet.next();
+                return new SimulationRunStats(
+                        resultSet.getInt(1),
+                        resultSet.getInt(2),
+                        resultSet.getDouble(3),
+                        resultSet.getDouble(4),
+                        resultSet.getDouble(5));
+            }
+        } catch (SQLException e) {
+            System.err.println("Não foi possível ler o histórico: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Preenche os parâmetros de {@link #SQL_INSERT_RUN} com uma simulação.
+     */
+    static void bindRun(PreparedStatement insert, SimulationRun run) throws SQLException {
+        insert.setString(1, run.userName());
+        insert.setLong(2, run.seed());
+        insert.setInt(3, run.creatures());
+        insert.setInt(4, run.iterations());
+        insert.setDouble(5, run.points());
+        insert.setInt(6, run.victory() ? 1 : 0);
+        insert.setLong(7, run.durationMillis());
+    }
+
+    /** Trabalho executado dentro de uma transação. */
+    @FunctionalInterface
+    private interface Work {
+        int run() throws SQLException;
+    }
+
+    /**
+     * Executa o trabalho em uma transação: confirma se ele terminar, desfaz se lançar erro.
+     */
+    private int inTransaction(Work work) throws SQLException {
+        ensureOpen();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            int result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Obtém um comando preparado da conexão, recusando-se se esta instância já foi fechada.
+     */
+    private PreparedStatement prepare(String sql) throws SQLException {
+        ensureOpen();
+        return statements.prepare(sql);
+    }
+
+    /**
+     * Lança {@link SQLException} se esta instância já foi fechada: uma conexão devolvida ao
+     * pool pode já ter sido emprestada a outra tela e não deve mais ser usada por esta.
+     */
+    private void ensureOpen() throws SQLException {
+        if (closed) {
+            throw new SQLException("Conexão já fechada");
+        }
+    }
+
+    /**
+     * Soma as linhas afetadas de um lote.
+     */
+    private static int sum(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    /**
+     * Grava as edições e simulações enfileiradas na fonte compartilhada, se houver.
+     */
+    private void flushPending() {
+        if (dataSource != null) {
+            dataSource.flush();
+        }
+    }
+
+    /**
+     * Fecha a conexão com o banco de dados se ela estiver aberta, ou a devolve ao pool se
+     * ela foi emprestada de uma {@link SQLiteDataSource}. Depois disso, as operações desta
+     * instância falham como erros de banco (retornando {@code false}, {@code null} ou
+     * lançando {@link SQLException}, conforme o método).
      */
     public void close() {
+        if (closed) return;
+        closed = true;
+        if (dataSource != null) {
+            dataSource.release(connection);
+            return;
+        }
+        statements.close();
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
@@ -0,0 +1,277 @@
+package org.example.model;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Fonte de conexões com o banco SQLite, compartilhada por toda a aplicação.
+ *
+ * <p>É criada uma única vez na inicialização e repassada aos controladores. Mantém um
+ * pequeno pool de conexões abertas: cada {@link SQLite} empresta uma conexão ao ser criado
+ * e a devolve em {@link SQLite#close()}, de modo que trocar de tela não abre uma nova conexão
+ * JDBC nem repete a verificação do esquema, feita apenas na criação da fonte. Cada conexão
+ * do pool tem o seu {@link StatementCache}, que vive enquanto a conexão estiver aberta.</p>
+ *
+ * <p>A fonte também é dona da fila {@link UserWriteBehind}, que grava em segundo plano as
+ * edições de usuários, e do {@link SimulationRunWriter}, que grava o histórico de simulações;
+ * fechar a fonte grava o que estiver pendente antes de fechar as conexões.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLite
+ * @see UserWriteBehind
+ * @see SimulationRunWriter
+ */
+public class SQLiteDataSource implements AutoCloseable {
+
+    /** URL padrão do banco de dados da aplicação. */
+    public static final String DEFAULT_URL = "jdbc:sqlite:base.db";
+
+    /** Quantidade padrão de conexões mantidas abertas. */
+    public static final int DEFAULT_POOL_SIZE = 4;
+
+    /** URL de conexão com o banco de dados. */
+    private final String url;
+
+    /** PRAGMAs aplicados a cada conexão aberta. */
+    private final Properties properties;
+
+    /** Quantidade máxima de conexões ociosas mantidas no pool. */
+    private final int poolSize;
+
+    /** Conexões abertas e livres para empréstimo. */
+    private final ArrayDeque<Connection> idle = new ArrayDeque<>();
+
+    /** Cache de comandos preparados de cada conexão aberta por esta fonte. */
+    private final Map<Connection, StatementCache> caches = new IdentityHashMap<>();
+
+    /** Fila de gravação das edições de usuários (criada no primeiro uso). */
+    private UserWriteBehind writeBehind;
+
+    /** Gravador do histórico de simulações (criado no primeiro uso). */
+    private SimulationRunWriter runWriter;
+
+    /** Indica se a fonte foi fechada. */
+    private boolean closed = false;
+
+    /**
+     * Cria a fonte para o banco padrão ({@value #DEFAULT_URL}) com o perfil {@link SQLiteTuning#FAST}.
+     */
+    public SQLiteDataSource() throws SQLException {
+        this(DEFAULT_URL, DEFAULT_POOL_SIZE, SQLiteTuning.FAST);
+    }
+
+    /**
+     * Cria a fonte com a configuração padrão do driver e garante o esquema do banco.
+     *
+     * @param url      URL JDBC do banco SQLite.
+     * @param poolSize Quantidade máxima de conexões ociosas mantidas abertas.
+     */
+    public SQLiteDataSource(String url, int poolSize) throws SQLException {
+        this(url, poolSize, SQLiteTuning.DEFAULT);
+    }
+
+    /**
+     * Cria a fonte e garante o esquema do banco.
+     *
+     * @param url      URL JDBC do banco SQLite.
+     * @param poolSize Quantidade máxima de conexões ociosas mantidas abertas.
+     * @param tuning   PRAGMAs aplicados a cada conexão.
+     */
+    public SQLiteDataSource(String url, int poolSize, SQLiteTuning tuning) throws SQLException {
+        this.url = url;
+        this.poolSize = Math.max(1, poolSize);
+        this.properties = tuning.toProperties();
+
+        Connection connection = DriverManager.getConnection(url, properties);
+        try {
+            SQLite.createSchema(connection);
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        idle.push(connection);
+    }
+
+    /**
+     * Empresta uma conexão do pool, abrindo uma nova se não houver nenhuma livre.
+     *
+     * @return Conexão aberta, que deve ser devolvida com {@link #release(Connection)}.
+     */
+    public Connection getConnection() throws SQLException {
+        synchronized (idle) {
+            if (closed) {
+                throw new SQLException("Fonte de dados fechada");
+            }
+            while (!idle.isEmpty()) {
+                Connection connection = idle.pop();
+                if (!connection.isClosed()) {
+                    return connection;
+                }
+                caches.remove(connection);
+            }
+        }
+        return DriverManager.getConnection(url, properties);
+    }
+
+    /**
+     * Devolve uma conexão ao pool. Se o pool estiver cheio ou a fonte fechada, a conexão é fechada.
+     *
+     * @param connection Conexão emprestada por {@link #getConnection()}.
+     */
+    public void release(Connection connection) {
+        if (connection == null) return;
+        try {
+            if (connection.isClosed()) {
+                synchronized (idle) {
+                    caches.remove(connection);
+                }
+                return;
+            }
+            synchronized (idle) {
+                if (!closed && idle.size() < poolSize) {
+                    idle.push(connection);
+                    return;
+                }
+            }
+            discard(connection);
+        } catch (SQLException e) {
+            System.err.println("Erro ao devolver conexão: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Retorna o cache de comandos preparados da conexão, criando-o no primeiro uso.
+     *
+     * @param connection Conexão emprestada por {@link #getConnection()}.
+     * @return Cache de comandos da conexão.
+     */
+    public StatementCache statements(Connection connection) {
+        synchronized (idle) {
+            return caches.computeIfAbsent(connection, StatementCache::new);
+        }
+    }
+
+    /**
+     * Fecha a conexão e os comandos preparados nela.
+     */
+    private void discard(Connection connection) throws SQLException {
+        StatementCache cache;
+        synchronized (idle) {
+            cache = caches.remove(connection);
+        }
+        if (cache != null) {
+            cache.close();
+        }
+        connection.close();
+    }
+
+    /**
+     * Retorna a fila de gravação das edições de usuários, criando-a no primeiro uso.
+     *
+     * @return Fila de gravação compartilhada.
+     */
+    public UserWriteBehind getWriteBehind() {
+        synchronized (idle) {
+            if (writeBehind == null) {
+                writeBehind = new UserWriteBehind(this, UserWriteBehind.DEFAULT_DELAY_MS);
+                writeBehind.start();
+            }
+            return writeBehind;
+        }
+    }
+
+    /**
+     * Retorna o gravador do histórico de simulações, criando-o no primeiro uso.
+     *
+     * @return Gravador compartilhado.
+     */
+    public SimulationRunWriter getRunWriter() {
+        synchronized (idle) {
+            if (runWriter == null) {
+                runWriter = new SimulationRunWriter(this, SimulationRunWriter.DEFAULT_DELAY_MS,
+                        SimulationRunWriter.DEFAULT_BATCH_SIZE);
+                runWriter.start();
+            }
+            return runWriter;
+        }
+    }
+
+    /**
+     * Grava as edições de usuários e as simulações pendentes, se houver. Uma falha na
+     * gravação é registrada no erro padrão (ver {@link BatchedWriter#flush()}).
+     */
+    public void flush() {
+        UserWriteBehind queue;
+        SimulationRunWriter runs;
+        synchronized (idle) {
+            queue = writeBehind;
+            runs = runWriter;
+        }
+        if (queue != null) {
+            try {
+                queue.flush();
+            } catch (SQLException e) {
+                System.err.println("Não foi possível gravar as edições pendentes: " + e.getMessage());
+            }
+        }
+        if (runs != null) {
+            try {
+                runs.flush();
+            } catch (SQLException e) {
+                System.err.println("Não foi possível gravar o histórico de simulações: " + e.getMessage());
+            }
+        }
+    }
+
+    /** @return Quantidade de conexões ociosas no pool. */
+    public int getIdleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * Grava as edições e simulações pendentes e fecha todas as conexões ociosas; as
+     * emprestadas são fechadas ao serem devolvidas.
+     */
+    @Override
+    public void close() {
+        UserWriteBehind queue;
+        SimulationRunWriter runs;
+        synchronized (idle) {
+            queue = writeBehind;
+            runs = runWriter;
+        }
+        if (queue != null) {
+            try {
+                queue.close();
+            } catch (SQLException e) {
+                System.err.println("Não foi possível gravar as edições pendentes: " + e.getMessage());
+            }
+        }
+        if (runs != null) {
+            try {
+                runs.close();
+            } catch (SQLException e) {
+                System.err.println("Não foi possível gravar o histórico de simulações: " + e.getMessage());
+            }
+        }
+        synchronized (idle) {
+            closed = true;
+            for (Connection connection : idle) {
+                try {
+                    discard(connection);
+                } catch (SQLException e) {
+                    System.err.println("Erro ao fechar conexão: " + e.getMessage());
+                }
+            }
+            idle.clear();
+        }
+    }
+}
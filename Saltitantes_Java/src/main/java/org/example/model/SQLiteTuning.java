@@ -0,0 +1,58 @@
+package org.example.model;
+
+import org.sqlite.SQLiteConfig;
+
+import java.util.Properties;
+
+/**
+ * Perfil de ajuste das conexões SQLite (PRAGMAs aplicados ao abrir cada conexão).
+ *
+ * <p>{@link #DEFAULT} mantém o comportamento original do driver (journal em modo DELETE e
+ * {@code synchronous=FULL}, um fsync por transação). {@link #FAST} usa journal WAL com
+ * {@code synchronous=NORMAL}: as escritas vão para o arquivo {@code -wal} e o fsync só é
+ * feito nos checkpoints, sem risco de corromper o banco (apenas as últimas transações podem
+ * se perder em uma queda de energia). Também habilita leitura por {@code mmap}, um cache de
+ * páginas maior e espera em vez de erro quando o banco está ocupado por outra conexão.</p>
+ *
+ * @param journalMode Modo do journal ({@code DELETE}, {@code WAL}, ...), ou {@code null} para o padrão.
+ * @param synchronous Modo de sincronização ({@code FULL}, {@code NORMAL}, ...), ou {@code null} para o padrão.
+ * @param mmapSize    Bytes do banco lidos por {@code mmap}; 0 desliga.
+ * @param cacheSize   Tamanho do cache de páginas (negativo em KiB, como no PRAGMA); 0 para o padrão.
+ * @param busyTimeout Milissegundos de espera por um banco ocupado; 0 para o padrão.
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLiteDataSource
+ */
+public record SQLiteTuning(String journalMode, String synchronous, long mmapSize, int cacheSize, int busyTimeout) {
+
+    /** Configuração padrão do driver, sem nenhum PRAGMA. */
+    public static final SQLiteTuning DEFAULT = new SQLiteTuning(null, null, 0, 0, 0);
+
+    /** WAL, {@code synchronous=NORMAL}, 256 MiB de mmap, 16 MiB de cache e 5 s de espera. */
+    public static final SQLiteTuning FAST = new SQLiteTuning("WAL", "NORMAL", 256L << 20, -16_000, 5_000);
+
+    /**
+     * Converte o perfil nas propriedades de conexão do driver.
+     *
+     * @return Propriedades para {@link java.sql.DriverManager#getConnection(String, Properties)}.
+     */
+    public Properties toProperties() {
+        SQLiteConfig config = new SQLiteConfig();
+        if (journalMode != null) {
+            config.setJournalMode(SQLiteConfig.JournalMode.valueOf(journalMode));
+        }
+        if (synchronous != null) {
+            config.setSynchronous(SQLiteConfig.SynchronousMode.valueOf(synchronous));
+        }
+        if (mmapSize > 0) {
+            config.setPragma(SQLiteConfig.Pragma.MMAP_SIZE, Long.toString(mmapSize));
+        }
+        if (cacheSize != 0) {
+            config.setCacheSize(cacheSize);
+        }
+        if (busyTimeout > 0) {
+            config.setBusyTimeout(busyTimeout);
+        }
+        return config.toProperties();
+    }
+}
@@ -0,0 +1,227 @@
+package org.example.model;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Executor em lote (Monte-Carlo) de simulações independentes, sem interface gráfica.
+ *
+ * <p>Cada simulação usa seu próprio {@link SimulationEngine}, com lista de criaturas e
+ * {@link java.util.Random} próprios, semeado com {@code seed + i}. Por isso as execuções
+ * não compartilham estado e podem ser distribuídas entre todos os núcleos em um
+ * {@link ForkJoinPool}; o resultado de cada índice é sempre o mesmo, independente do
+ * paralelismo usado.</p>
+ *
+ * <p>O resultado de cada simulação é o mesmo critério usado por
+ * {@link CreaturesPanel#stopSimulation()}: vitória quando a pontuação atinge
+ * {@link SimulationEngine#GOAL_POINTS}.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationEngine
+ */
+public class SimulationBatch {
+
+    /** Largura da área de cada simulação. */
+    private final int width;
+
+    /** Altura da área de cada simulação. */
+    private final int height;
+
+    /** Quantidade de criaturas criadas em cada simulação. */
+    private final int creatures;
+
+    /** Semente base; a simulação {@code i} usa {@code seed + i}. */
+    private final long seed;
+
+    /**
+     * Cria um executor em lote.
+     *
+     * @param width     Largura da área de cada simulação.
+     * @param height    Altura da área de cada simulação.
+     * @param creatures Quantidade de criaturas por simulação.
+     * @param seed      Semente base das simulações.
+     */
+    public SimulationBatch(int width, int height, int creatures, long seed) {
+        if (creatures < 2) {
+            throw new IllegalArgumentException("São necessárias pelo menos 2 criaturas");
+        }
+        this.width = width;
+        this.height = height;
+        this.creatures = creatures;
+        this.seed = seed;
+    }
+
+    /**
+     * Executa uma única simulação completa pelo motor de eventos discretos
+     * ({@link SimulationEngine#runDiscrete()}), com o mesmo resultado do laço por ticks.
+     * Usa o índice de clusters do guardião ({@link SimulationEngine#setIndexedGuardian(boolean)}),
+     * seguro aqui porque ninguém além do motor altera a lista durante a simulação.
+     *
+     * @param index Índice da simulação no lote (define sua semente).
+     * @return Motor ao fim da simulação.
+     */
+    public SimulationEngine runOne(int index) {
+        SimulationEngine engine = new SimulationEngine(width, height, seed + index);
+        engine.setIndexedGuardian(true);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        engine.runDiscrete();
+        return engine;
+    }
+
+    /**
+     * Executa {@code runs} simulações usando todos os núcleos disponíveis.
+     *
+     * @param runs Quantidade de simulações.
+     * @return Estatísticas do lote.
+     */
+    public Result run(int runs) {
+        return run(runs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executa {@code runs} simulações em um {@link ForkJoinPool} com o paralelismo informado.
+     *
+     * @param runs        Quantidade de simulações.
+     * @param parallelism Número de threads de trabalho.
+     * @return Estatísticas do lote.
+     */
+    public Result run(int runs, int parallelism) {
+        return run(runs, parallelism, null, null);
+    }
+
+    /**
+     * Executa {@code runs} simulações e acrescenta o resultado de cada uma ao histórico
+     * assim que ela termina.
+     *
+     * @param runs        Quantidade de simulações.
+     * @param parallelism Número de threads de trabalho.
+     * @param userName    Usuário a quem o histórico é atribuído.
+     * @param history     Gravador do histórico, ou {@code null} para não gravar.
+     * @return Estatísticas do lote.
+     */
+    public Result run(int runs, int parallelism, String userName, SimulationRunWriter history) {
+        double[] points = new double[runs];
+        int[] interactions = new int[runs];
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            pool.submit(() -> IntStream.range(0, runs).parallel().forEach(i -> {
+                long runStart = System.nanoTime();
+                SimulationEngine engine = runOne(i);
+                points[i] = engine.getPoints();
+                interactions[i] = engine.getInteractions();
+                if (history != null) {
+                    history.append(new SimulationRun(userName, seed + i, creatures, engine.getInteractions(),
+                            engine.getPoints(), engine.isVictory(), (System.nanoTime() - runStart) / 1_000_000L));
+                }
+            })).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Execução em lote interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha em uma das simulações do lote", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(points, interactions, elapsed);
+    }
+
+    /**
+     * Estatísticas de um lote de simulações.
+     *
+     * @param points       Pontuação final de cada simulação, na ordem dos índices.
+     * @param interactions Interações até o término de cada simulação.
+     * @param elapsedNanos Tempo total de parede do lote, em nanossegundos.
+     */
+    public record Result(double[] points, int[] interactions, long elapsedNanos) {
+
+        /** @return Quantidade de simulações executadas. */
+        public int runs() {
+            return points.length;
+        }
+
+        /** @return Quantidade de simulações que atingiram {@link SimulationEngine#GOAL_POINTS}. */
+        public int wins() {
+            int wins = 0;
+            for (double p : points) {
+                if (p >= SimulationEngine.GOAL_POINTS) wins++;
+            }
+            return wins;
+        }
+
+        /** @return Fração de vitórias, entre 0 e 1. */
+        public double winRate() {
+            return runs() == 0 ? 0.0 : (double) wins() / runs();
+        }
+
+        /** @return Pontuação média. */
+        public double meanPoints() {
+            return Arrays.stream(points).average().orElse(0.0);
+        }
+
+        /**
+         * Percentil da distribuição de pontos (método do vizinho mais próximo).
+         *
+         * @param p Percentil entre 0 e 100.
+         * @return Pontuação no percentil pedido.
+         */
+        public double pointsPercentile(double p) {
+            if (runs() == 0) return 0.0;
+            double[] sorted = points.clone();
+            Arrays.sort(sorted);
+            int idx = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))];
+        }
+
+        /** @return Média de interações até o término. */
+        public double meanInteractions() {
+            return Arrays.stream(interactions).average().orElse(0.0);
+        }
+
+        /** @return Simulações por segundo. */
+        public double throughput() {
+            return elapsedNanos == 0 ? 0.0 : runs() / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "Simulações: %d | Vitórias: %d (%.1f%%) | Pontos: média %.1f, p50 %.0f, p90 %.0f, max %.0f"
+                            + " | Interações (média): %.1f | %.0f sims/s",
+                    runs(), wins(), winRate() * 100, meanPoints(), pointsPercentile(50),
+                    pointsPercentile(90), pointsPercentile(100), meanInteractions(), throughput());
+        }
+    }
+
+    /**
+     * Executa um lote pela linha de comando.
+     *
+     * <p>Argumentos (todos opcionais): {@code runs creatures seed threads user}. Com
+     * {@code user}, cada simulação é gravada no histórico desse usuário no banco padrão.</p>
+     *
+     * @param args Argumentos da linha de comando.
+     */
+    public static void main(String[] args) throws SQLException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int creatures = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        SimulationBatch batch = new SimulationBatch(720, 480, creatures, seed);
+        if (args.length > 4) {
+            try (SQLiteDataSource dataSource = new SQLiteDataSource()) {
+                System.out.println(batch.run(runs, threads, args[4], dataSource.getRunWriter()));
+            }
+        } else {
+            System.out.println(batch.run(runs, threads));
+        }
+    }
+}
@@ -0,0 +1,1523 @@
+package org.example.model;
+
+import java.util.*;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.stream.IntStream;
+
+/**
+ * Motor da simulação das criaturas saltitantes, independente de Swing.
+ *
+ * <p>Concentra todo o estado das criaturas e as regras do jogo (física de pulo, movimento
+ * horizontal, roubo entre vizinhas, formação de clusters, absorção pelo guardião e condição
+ * de término). O {@link CreaturesPanel} apenas desenha este estado e dispara o motor com
+ * seus timers; fora da interface gráfica, o motor pode ser avançado tick a tick com
+ * {@link #step()} tão rápido quanto a CPU permitir.</p>
+ *
+ * <p>Um tick corresponde a um disparo do timer de física (10 ms). A atualização lógica
+ * ({@link #update()}), que no painel é disparada a cada 3000 ms, acontece aqui a cada
+ * {@link #TICKS_PER_UPDATE} ticks.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see Creature
+ * @see SimulationListener
+ */
+public class SimulationEngine {
+
+    /** Tamanho padrão da criatura em pixels. */
+    public static final int CREATURE_SIZE = 50;
+
+    /** Distância máxima (em pixels) para que criaturas se fundam ou sejam absorvidas. */
+    public static final int fuseDistance = 75;
+
+    /** Pontuação mínima para que a simulação seja considerada uma vitória. */
+    public static final double GOAL_POINTS = 500;
+
+    /** Intervalo do timer de física, em milissegundos. */
+    public static final int PHYSICS_INTERVAL = 10;
+
+    /** Intervalo do timer de atualização lógica, em milissegundos. */
+    public static final int UPDATE_INTERVAL = 3000;
+
+    /** Quantidade de ticks de física entre duas atualizações lógicas. */
+    public static final int TICKS_PER_UPDATE = UPDATE_INTERVAL / PHYSICS_INTERVAL;
+
+    /** População mínima para dividir o movimento simultâneo entre os núcleos. */
+    public static final int PARALLEL_MOVEMENT_THRESHOLD = 4096;
+
+    /** Intervalo mínimo entre rodadas por eventos na interface: 50 ticks (500 ms). */
+    public static final int UI_MIN_ROUND_TICKS = 50;
+
+    /** Lista de todas as criaturas da simulação (o guardião, se existir, é sempre o último). */
+    public final List<Creature> Creatures = new ArrayList<>();
+
+    /** Flag que alterna o momento de atualizar ou não. */
+    public boolean canUpdate = true;
+
+    /** Indica se a simulação está em andamento. */
+    public boolean startSimulation = false;
+
+    /** Índice atual da criatura que está se movendo. */
+    public int moveIndex = 0;
+
+    /** Quantidade de criaturas que chegaram ao alvo na rodada de movimento atual. */
+    private int creaturesMove = 0;
+
+    /** Contador de interações (atualizações lógicas). */
+    private int interacao = 0;
+
+    /** Número máximo de interações antes do término forçado. */
+    private int maxInteration = 50;
+
+    /** Ticks de física executados desde o início da simulação. */
+    private long ticks = 0;
+
+    /** Pontuação acumulada nesta simulação. */
+    private double points = 0;
+
+    /** Valor da gravidade aplicada às criaturas. */
+    private final float grav = 1.0f;
+
+    /** Força vertical aplicada no "pulo" das criaturas. */
+    private final int jumpForce = -15;
+
+    /** Posição Y que representa o chão. */
+    private final int groundY;
+
+    /** Largura atual da área da simulação. */
+    private final IntSupplier width;
+
+    /** Gerador de números aleatórios para cálculo de alvo. */
+    private final Random rand;
+
+    /** Usuário que recebe os pontos da simulação (opcional). */
+    private User user;
+
+    /** Observador dos eventos visuais. */
+    private SimulationListener listener = SimulationListener.NONE;
+
+    /** Se true, o roubo usa o {@link SpatialIndex} em vez da busca linear. */
+    private boolean indexedTheft = false;
+
+    /** Índice por posição usado quando {@link #indexedTheft} está ativo. */
+    private final SpatialIndex index = new SpatialIndex();
+
+    /** Indica que a lista mudou de estrutura e o índice precisa ser reconstruído. */
+    private boolean indexDirty = true;
+
+    /** Se true, {@link #checkCluster()} agrupa por varredura do {@link SpatialIndex}. */
+    private boolean sweepClustering = true;
+
+    /** Próxima posição ordenada ainda não agrupada (union-find com compressão de caminho). */
+    private int[] sweepNext = new int[0];
+
+    /** Índices na lista dos membros de cada grupo, grupo após grupo. */
+    private int[] sweepMembers = new int[0];
+
+    /** Fim (exclusivo) de cada grupo em {@link #sweepMembers}. */
+    private int[] sweepGroupEnd = new int[0];
+
+    /** Criaturas dos grupos, resolvidas antes de a lista ser alterada pelos clusters. */
+    private Creature[] sweepCreatures = new Creature[0];
+
+    /** Se true, {@link #checkGuardian()} consulta o {@link ClusterIndex}. */
+    private boolean indexedGuardian = false;
+
+    /** Índice por posição apenas dos clusters. */
+    private final ClusterIndex clusterIndex = new ClusterIndex();
+
+    /** Indica que o índice de clusters precisa ser reconstruído a partir da lista. */
+    private boolean clusterIndexDirty = true;
+
+    /** Se true, todas as criaturas liberadas se movem no mesmo tick (ver {@link #setConcurrentMovement(boolean)}). */
+    private boolean concurrentMovement = false;
+
+    /** Se true, o movimento simultâneo de populações grandes é dividido entre os núcleos. */
+    private boolean parallelMovement = false;
+
+    /** Se true, {@link #step()} inicia a rodada seguinte assim que o movimento termina. */
+    private boolean eventDrivenRounds = false;
+
+    /** Ticks mínimos entre duas atualizações lógicas no modo por eventos. */
+    private int minRoundTicks = 0;
+
+    /** Ticks desde a última atualização lógica feita por {@link #step()}. */
+    private long ticksSinceUpdate = 0;
+
+    /** Se true, o pulo não é integrado a cada tick e sim calculado pela tabela. */
+    private boolean closedFormBounce = false;
+
+    /** Ticks de pulo executados (a integração vertical de cada tick de física). */
+    private long bounceClock = 0;
+
+    /** Y de cada tick de um período do pulo, a partir do toque no chão (criada no primeiro uso). */
+    private int[] bounceYTable;
+
+    /** Velocidade vertical de cada tick de um período do pulo. */
+    private int[] bounceSpdYTable;
+
+    /** Clusters absorvidos pelo guardião na última verificação (reaproveitada). */
+    private final List<Creature> absorbed = new ArrayList<>();
+
+    /**
+     * Cria um motor headless com dimensões fixas e semente conhecida, permitindo
+     * reproduzir exatamente a mesma simulação.
+     *
+     * @param width  Largura da área da simulação.
+     * @param height Altura da área da simulação.
+     * @param seed   Semente do gerador de números aleatórios.
+     */
+    public SimulationEngine(int width, int height, long seed) {
+        this(() -> width, height, new Random(seed));
+    }
+
+    /**
+     * Cria um motor cuja largura é consultada dinamicamente (por exemplo, a largura de um painel).
+     *
+     * @param width  Fornecedor da largura atual da área da simulação.
+     * @param height Altura da área da simulação.
+     * @param rand   Gerador de números aleatórios.
+     */
+    public SimulationEngine(IntSupplier width, int height, Random rand) {
+        this.width = width;
+        this.rand = rand;
+        this.groundY = height - CREATURE_SIZE - 40;
+    }
+
+    /**
+     * Define o usuário que acumula os pontos da simulação.
+     *
+     * @param user Usuário, ou {@code null} para apenas contabilizar os pontos no motor.
+     */
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    /**
+     * Define o observador dos eventos visuais.
+     *
+     * @param listener Observador, ou {@code null} para nenhum.
+     */
+    public void setListener(SimulationListener listener) {
+        this.listener = listener == null ? SimulationListener.NONE : listener;
+    }
+
+    /**
+     * Ativa ou desativa a busca da vizinha mais próxima pelo {@link SpatialIndex}.
+     *
+     * <p>Com o índice, cada roubo custa O(log n) em vez de O(n). A vítima escolhida é a mesma
+     * da busca linear (menor distância e, no empate, a última da lista), mas este modo
+     * <b>não é uma otimização transparente: ele muda o jogo</b>. Cada roubo vale 5 pontos,
+     * enquanto a busca linear soma 5 pontos a cada vizinha "mais próxima até agora" que
+     * encontra na ordem da lista (uma contagem que só sai de uma varredura O(n)). Com menos
+     * pontos, o resultado de uma simulação diante de {@link #GOAL_POINTS} também muda. Um
+     * ladrão sem vizinha (só ele e o guardião) não rouba nem pontua, enquanto a busca linear
+     * rouba da primeira criatura da lista. Por isso o painel e o {@link SimulationBatch} não
+     * ligam este modo, que serve para medir o custo do roubo em populações grandes.</p>
+     *
+     * @param indexedTheft true para usar o índice.
+     */
+    public void setIndexedTheft(boolean indexedTheft) {
+        synchronized (Creatures) {
+            this.indexedTheft = indexedTheft;
+            indexDirty = true;
+        }
+    }
+
+    /**
+     * Ativa ou desativa o agrupamento por varredura em {@link #checkCluster()}.
+     *
+     * <p>Os grupos formados são exatamente os da versão original (cada base, em ordem da
+     * lista, leva todas as criaturas ainda livres a até {@link #fuseDistance} dela), mas cada
+     * base encontra suas vizinhas por busca binária no índice ordenado e as criaturas já
+     * agrupadas são puladas com union-find, resultando em O(n log n). Os vetores de trabalho
+     * são reaproveitados entre chamadas.</p>
+     *
+     * <p>Ativado por padrão: o índice é reconstruído a cada chamada, então o resultado não
+     * depende de como a lista foi alterada antes. Desativar volta à varredura quadrática
+     * original, usada como referência nos testes de propriedade.</p>
+     *
+     * @param sweepClustering true para usar a varredura.
+     */
+    public void setSweepClustering(boolean sweepClustering) {
+        synchronized (Creatures) {
+            this.sweepClustering = sweepClustering;
+        }
+    }
+
+    /**
+     * Ativa ou desativa a consulta por faixa do {@link ClusterIndex} em {@link #checkGuardian()}.
+     *
+     * <p>O índice de clusters é mantido por {@link #createCluster(ArrayList)}, pela remoção
+     * e pelo movimento dos clusters, de modo que encontrar os clusters ao alcance do guardião
+     * custa O(log c + k), sendo k o número de clusters absorvidos, em vez de percorrer
+     * toda a população.</p>
+     *
+     * <p>Desativado por padrão: o índice só enxerga as mudanças feitas pelo próprio motor, e
+     * quem altera a lista ou as posições por fora (o painel e seus testes) deixaria o índice
+     * desatualizado. {@link SimulationBatch#runOne(int)} o ativa.</p>
+     *
+     * @param indexedGuardian true para usar o índice de clusters.
+     */
+    public void setIndexedGuardian(boolean indexedGuardian) {
+        synchronized (Creatures) {
+            this.indexedGuardian = indexedGuardian;
+            clusterIndexDirty = true;
+        }
+    }
+
+    /**
+     * Ativa ou desativa o movimento simultâneo em {@link #phisycsUpdate()}.
+     *
+     * <p>No modo original, a cada tick apenas a criatura de {@link #moveIndex} anda, um passo
+     * de {@code spdX} por criatura da lista (n passos por tick), e as demais esperam a sua vez;
+     * a rodada termina quando todas chegaram ao alvo. No modo simultâneo, cada criatura
+     * liberada anda no mesmo tick esses mesmos n passos em direção ao seu alvo, de uma só vez,
+     * de modo que a rodada dura o tempo da criatura mais distante e não a soma das
+     * distâncias. Roubo, clusters e guardião seguem as mesmas regras e acontecem nos mesmos
+     * pontos da rodada.</p>
+     *
+     * @param concurrentMovement true para mover todas as criaturas no mesmo tick.
+     */
+    public void setConcurrentMovement(boolean concurrentMovement) {
+        synchronized (Creatures) {
+            this.concurrentMovement = concurrentMovement;
+            indexDirty = true;
+            clusterIndexDirty = true;
+        }
+    }
+
+    /**
+     * Permite dividir o movimento simultâneo entre os núcleos quando a população tem pelo
+     * menos {@link #PARALLEL_MOVEMENT_THRESHOLD} criaturas e não há ouvinte registrado (os
+     * ouvintes da interface esperam ser chamados em uma única thread). Cada criatura só
+     * altera o próprio estado, então o resultado é idêntico ao do movimento sequencial.
+     *
+     * @param parallelMovement true para permitir o movimento em paralelo.
+     */
+    public void setParallelMovement(boolean parallelMovement) {
+        synchronized (Creatures) {
+            this.parallelMovement = parallelMovement;
+        }
+    }
+
+    /**
+     * Ativa ou desativa as rodadas por eventos em {@link #step()}.
+     *
+     * <p>No modo original, {@link #update()} roda a cada {@link #TICKS_PER_UPDATE} ticks,
+     * tenha o movimento terminado ou não: se ainda há criaturas andando, o roubo não acontece
+     * e a interação é perdida; se o movimento terminou cedo, o motor fica parado até o
+     * próximo disparo. Por eventos, a atualização roda no primeiro tick em que todas as
+     * criaturas estão paradas ({@link #isCanUpdate()}) e já se passaram pelo menos
+     * {@code minRoundTicks} ticks desde a anterior, de modo que cada interação tem o seu
+     * roubo e o ritmo depende apenas do movimento.</p>
+     *
+     * @param eventDrivenRounds true para iniciar cada rodada assim que o movimento termina.
+     * @param minRoundTicks     Ticks mínimos entre rodadas (0 para nenhum; use
+     *                          {@link #UI_MIN_ROUND_TICKS} para acompanhar na tela).
+     */
+    public void setEventDrivenRounds(boolean eventDrivenRounds, int minRoundTicks) {
+        synchronized (Creatures) {
+            this.eventDrivenRounds = eventDrivenRounds;
+            this.minRoundTicks = Math.max(0, minRoundTicks);
+        }
+    }
+
+    /**
+     * Ativa ou desativa o pulo calculado.
+     *
+     * <p>O pulo é periódico: depois do primeiro toque no chão, a criatura repete sempre o
+     * mesmo período de {@code y} e {@code spdY}. Com o pulo calculado, o motor não integra
+     * {@code spdY += grav; y += spdY} de cada criatura a cada tick; guarda apenas o tick do
+     * primeiro toque no chão e obtém a altura de qualquer tick pela tabela de um período
+     * (antes do toque, pela fórmula da queda). Os campos {@code y} e {@code spdY} ficam
+     * parados e devem ser lidos por {@link #bounceY(Creature)}, que a pintura chama apenas
+     * para as criaturas desenhadas; {@link #stop()} e a desativação do modo os atualizam.</p>
+     *
+     * @param closedFormBounce true para calcular o pulo pela tabela.
+     */
+    public void setClosedFormBounce(boolean closedFormBounce) {
+        synchronized (Creatures) {
+            if (this.closedFormBounce == closedFormBounce) return;
+            if (closedFormBounce) {
+                this.closedFormBounce = true;
+                for (Creature creature : Creatures) {
+                    anchorBounce(creature);
+                }
+            } else {
+                syncBounce();
+                this.closedFormBounce = false;
+            }
+        }
+    }
+
+    /**
+     * Altura atual da criatura, calculada se o pulo calculado estiver ativo.
+     *
+     * @param creature Criatura da simulação.
+     * @return Posição Y no tick atual.
+     */
+    public int bounceY(Creature creature) {
+        if (!closedFormBounce) {
+            return creature.y;
+        }
+        long k = bounceClock - creature.bounceTick;
+        if (bounceClock < creature.bounceLanding) {
+            return (int) (creature.y + k * creature.spdY + (long) gravStep() * k * (k + 1) / 2);
+        }
+        int[] table = bounceYTable();
+        return table[(int) ((bounceClock - creature.bounceLanding) % table.length)];
+    }
+
+    /**
+     * Guarda o tick do relógio de pulo em que {@code y} e {@code spdY} da criatura valem e o
+     * do seu próximo toque no chão.
+     */
+    private void anchorBounce(Creature creature) {
+        creature.bounceTick = bounceClock;
+        creature.bounceLanding = bounceClock + landingTicks(creature.y, creature.spdY);
+    }
+
+    /**
+     * Escreve em {@code y} e {@code spdY} de todas as criaturas o pulo do tick atual.
+     */
+    private void syncBounce() {
+        if (!closedFormBounce) return;
+        int[] spdYTable = bounceSpdYTable();
+        for (Creature creature : Creatures) {
+            int y = bounceY(creature);
+            if (bounceClock < creature.bounceLanding) {
+                creature.spdY += gravStep() * (int) (bounceClock - creature.bounceTick);
+            } else {
+                creature.spdY = spdYTable[(int) ((bounceClock - creature.bounceLanding) % spdYTable.length)];
+            }
+            creature.y = y;
+            creature.bounceTick = bounceClock;
+        }
+    }
+
+    /**
+     * Ticks até o primeiro toque no chão a partir de (y, spdY), 0 se já está no início de um
+     * pulo.
+     */
+    private long landingTicks(int y, int spdY) {
+        long ticks = 0;
+        while (y != groundY || spdY != jumpForce) {
+            spdY = (int) (spdY + grav);
+            y += spdY;
+            ticks++;
+            if (y >= groundY) break;
+        }
+        return ticks;
+    }
+
+    /** Gravidade somada a {@code spdY} por tick (inteira, pois {@code spdY} é inteiro). */
+    private int gravStep() {
+        return (int) grav;
+    }
+
+    /** @return Tabela de Y de um período do pulo, a partir do toque no chão. */
+    private int[] bounceYTable() {
+        if (bounceYTable == null) {
+            Creature probe = new Creature(0, groundY, 0, jumpForce, null);
+            List<Integer> ys = new ArrayList<>();
+            List<Integer> speeds = new ArrayList<>();
+            do {
+                ys.add(probe.y);
+                speeds.add(probe.spdY);
+                bounce(probe);
+            } while (probe.spdY != jumpForce);
+            bounceSpdYTable = speeds.stream().mapToInt(Integer::intValue).toArray();
+            bounceYTable = ys.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return bounceYTable;
+    }
+
+    /** @return Tabela da velocidade vertical de um período do pulo. */
+    private int[] bounceSpdYTable() {
+        bounceYTable();
+        return bounceSpdYTable;
+    }
+
+    /**
+     * Período do pulo, em ticks: do toque no chão até o toque seguinte.
+     *
+     * @return Tamanho da tabela do pulo.
+     */
+    public int getBouncePeriod() {
+        return bounceYTable().length;
+    }
+
+    /**
+     * Adiciona uma nova criatura na posição horizontal especificada, mantendo o guardião no fim da lista.
+     *
+     * @param posX Posição X inicial da criatura.
+     */
+    public void addCreature(int posX) {
+        synchronized (Creatures) {
+            int spdX = 1;
+            int spdY = 1;
+
+            Creature newCreature = new Creature(posX, groundY, spdX, spdY, null);
+            listener.creatureAdded(newCreature);
+            if (Creatures.isEmpty()) {
+                Creatures.add(newCreature);
+            } else {
+                Creature last = Creatures.getLast();
+                if (!last.isGuardian) {
+                    Creatures.add(newCreature);
+                } else {
+                    Creatures.removeLast();
+                    Creatures.add(newCreature);
+                    Creatures.add(last);
+                }
+            }
+            newCreature.x = calcNextPosition(newCreature);
+            newCreature.target = calcNextPosition(newCreature);
+            if (closedFormBounce) anchorBounce(newCreature);
+            indexDirty = true;
+        }
+    }
+
+    /**
+     * Adiciona {@code count} criaturas em posições aleatórias sorteadas pelo próprio motor.
+     *
+     * @param count Quantidade de criaturas.
+     */
+    public void populate(int count) {
+        synchronized (Creatures) {
+            for (int i = 0; i < count; i++) {
+                addCreature(randomX());
+            }
+        }
+    }
+
+    /**
+     * Reinicia o gerador de números aleatórios com outra semente: a partir daqui, as posições
+     * de {@link #randomX()} e os alvos sorteados são os de um motor novo criado com ela.
+     *
+     * @param seed Nova semente.
+     */
+    public void reseed(long seed) {
+        synchronized (Creatures) {
+            rand.setSeed(seed);
+        }
+    }
+
+    /**
+     * Sorteia uma posição horizontal válida para uma criatura.
+     *
+     * @return Posição X entre 0 e a largura menos {@link #CREATURE_SIZE}.
+     */
+    public int randomX() {
+        return rand.nextInt(Math.max(1, width.getAsInt() - CREATURE_SIZE));
+    }
+
+    /**
+     * Funde as criaturas informadas em um único cluster com a soma de seus ouros.
+     *
+     * @param creaturesColliding Criaturas que colidiram.
+     * @return true se o cluster foi criado.
+     */
+    public boolean createCluster(ArrayList<Creature> creaturesColliding) {
+        if (creaturesColliding.size() > 1) {
+            synchronized (Creatures) {
+                Creature guardian = getLast();
+                if (guardian == null || !guardian.isGuardian) return false;
+                Creatures.removeLast(); //Remove temporiarmente o guardião da lista
+
+                Creature cluster = new Creature(creaturesColliding.getFirst().x, groundY - 20, 1, 0, null);
+                cluster.gold = 0.0;
+                cluster.isCluster = true;
+                if (closedFormBounce) anchorBounce(cluster);
+
+                for (Creature aux : creaturesColliding) {
+                    cluster.gold += aux.gold;
+                    listener.creatureRemoved(aux);
+                    clusterRemoved(aux);
+                    addPoints(20.0);
+                }
+
+                // Remove todas as criaturas que participaram da fusão (conjunto para não ser quadrático)
+                Creatures.removeAll(creaturesColliding.size() > 8
+                        ? new HashSet<>(creaturesColliding) : creaturesColliding);
+
+                // Adiciona o novo cluster
+                Creatures.add(cluster);
+                cluster.target = calcNextPosition(cluster);
+                cluster.canMove = true;
+                listener.creatureAdded(cluster);
+                Creatures.add(guardian);
+                indexDirty = true;
+                clusterAdded(cluster);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cria o guardião da simulação no fim da lista.
+     *
+     * @param posX Posição X inicial do guardião.
+     * @return true se o guardião foi criado, false se já existia um.
+     */
+    public boolean createGuardian(int posX) {
+        synchronized (Creatures) {
+            Creature last = getLast();
+            if (last != null && last.isGuardian) {
+                System.err.println("Só pode ter um guardião");
+                return false;
+            }
+            int spdX = 1;
+            int spdY = 1;
+
+            Guardian guardian = new Guardian(posX, groundY, spdX, spdY, null);
+            listener.creatureAdded(guardian);
+            Creatures.add(guardian);
+            guardian.x = calcNextPosition(guardian);
+            guardian.target = guardian.x;
+            if (closedFormBounce) anchorBounce(guardian);
+            return true;
+        }
+    }
+
+    /**
+     * Verifica se todas as criaturas estão paradas (não podem se mover).
+     *
+     * @return true se todas as criaturas estão paradas, senão false.
+     */
+    public boolean isCanUpdate() {
+        synchronized (Creatures) {
+            for (Creature aux : Creatures) {
+                if (aux.canMove && !aux.isGuardian) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Realiza o roubo entre a criatura informada e sua vizinha mais próxima.
+     *
+     * @param thief A criatura que irá roubar.
+     * @return true se o roubo foi realizado com sucesso.
+     */
+    public boolean thiefNeighbor(Creature thief) {
+        return thiefNeighbor(thief, -1);
+    }
+
+    /**
+     * Realiza o roubo conhecendo, se possível, a posição do ladrão na lista.
+     *
+     * @param thief      A criatura que irá roubar.
+     * @param thiefIndex Índice do ladrão na lista, ou -1 se desconhecido.
+     * @return true se o roubo foi realizado com sucesso.
+     */
+    private boolean thiefNeighbor(Creature thief, int thiefIndex) {
+        synchronized (Creatures) {
+
+            if (Creatures.size() <= 1) return false;
+
+            if (!isCanUpdate() || thief.isGuardian) {
+                return false;
+            }
+
+            Creature victim;
+            if (indexedTheft) {
+                int victimIndex = nearestNeighbor(thiefIndex >= 0 ? thiefIndex : Creatures.indexOf(thief));
+                if (victimIndex < 0) {
+                    return false; // Nenhuma vizinha: sem roubo e sem pontos
+                }
+                victim = Creatures.get(victimIndex);
+                addPoints(5.0);
+            } else {
+                int closerIndex = 0;
+                int index = 0;
+                int closest_distance = width.getAsInt() - CREATURE_SIZE;
+                int aux_distance;
+
+                for (Creature neighbor : Creatures) {
+                    if (thief != neighbor && !neighbor.isGuardian) {
+                        aux_distance = Math.abs(thief.x - neighbor.x);
+                        if (aux_distance <= closest_distance) {
+                            closest_distance = aux_distance;
+                            closerIndex = index;
+                            addPoints(5.0);
+                        }
+                    }
+                    index++;
+                }
+                victim = Creatures.get(closerIndex);
+            }
+
+            thief.gold += victim.gold / 2;
+            victim.gold /= 2;
+
+            thief.target = calcNextPosition(thief);
+            victim.target = calcNextPosition(victim);
+            return true;
+        }
+    }
+
+    /**
+     * Vizinha mais próxima pelo {@link SpatialIndex}, reconstruindo-o se a lista mudou.
+     *
+     * @param thiefIndex Índice da criatura na lista.
+     * @return Índice da vizinha mais próxima, ou -1 se não houver.
+     */
+    private int nearestNeighbor(int thiefIndex) {
+        if (indexDirty || index.listSize() != Creatures.size()) {
+            index.rebuild(Creatures);
+            indexDirty = false;
+        }
+        return index.nearest(thiefIndex);
+    }
+
+    /**
+     * Calcula o valor bruto de destino horizontal da criatura com base na sua posição e ouro.
+     *
+     * @param creature Criatura cujo destino será calculado.
+     * @return Valor alvo em coordenadas lógicas.
+     */
+    public double calcTarget(Creature creature) {
+        return creature.x + (rand.nextDouble(2) - 1) * creature.gold;
+    }
+
+    /**
+     * Atualiza o estado lógico do jogo, ativando roubos e liberando as criaturas para se mover.
+     *
+     * @return true se a atualização foi bem-sucedida, false se não há criaturas.
+     */
+    public boolean update() {
+        synchronized (Creatures) {
+            interacao++;
+            canUpdate = !canUpdate;
+
+            if (Creatures.isEmpty()) {
+                return false;
+            }
+
+            for (int i = 0; i < Creatures.size(); i++) {
+                Creature creature = Creatures.get(i);
+                if (creature.canTheft && !creature.isGuardian) {
+                    thiefNeighbor(creature, i);
+                    creature.canMove = true;
+                }
+            }
+            canUpdate = !canUpdate;
+            return true;
+        }
+    }
+
+    /**
+     * Atualiza a física das criaturas (gravidade, pulo e movimentação horizontal).
+     *
+     * @return true se a atualização ocorreu normalmente, false se não há criaturas.
+     */
+    public boolean phisycsUpdate() {
+        synchronized (Creatures) {
+            if (Creatures.isEmpty()) {
+                return false;
+            }
+
+            // A lista só muda de estrutura em checkGuardian/checkCluster, antes do laço de
+            // movimento; dentro dele ela é percorrida diretamente, sem cópia por tick.
+            List<Creature> creatures = Creatures;
+
+            if (canUpdate) {
+                if (creaturesMove >= creatures.size()) {
+                    endRound(creatures);
+                }
+                bounceClock++;
+
+                if (concurrentMovement) {
+                    moveConcurrently(creatures);
+                    return true;
+                }
+
+                int n = creatures.size();
+                for (int i = 0; i < n; i++) {
+                    Creature creature = creatures.get(i);
+                    // Atualização vertical (PULO)
+                    if (!closedFormBounce) {
+                        bounce(creature);
+                    }
+
+                    if (moveIndex >= n) {
+                        moveIndex = 0;
+                    }
+
+                    // Atualização horizontal (movimento em direção ao alvo)
+                    Creature moving = creatures.get(moveIndex); //Criatura que vai se mover
+
+                    if (moving.canMove && startSimulation) {
+                        listener.creatureMoving(moving, true);
+                        if (moving.x == moving.target) {
+                            moving.canMove = false;
+                            creaturesMove++;
+                        }
+
+                        if (moving.x != moving.target) {
+                            moving.canTheft = false;
+                        }
+
+                        int oldX = moving.x;
+                        if (moving.target > moving.x) {
+                            moving.x += moving.spdX;
+                        } else if (moving.target < moving.x) {
+                            moving.x -= moving.spdX;
+                        }
+                        if (indexedTheft && !indexDirty) {
+                            index.moved(moveIndex);
+                        }
+                        if (moving.isCluster && oldX != moving.x && indexedGuardian && !clusterIndexDirty) {
+                            clusterIndex.moved(moving, oldX);
+                        }
+
+                    } else if (startSimulation) {
+                        listener.creatureMoving(moving, false);
+                        moveIndex = (moveIndex + 1) % n;
+
+                        if (moveIndex >= n - 1) {
+                            for (int j = 0; j < n; j++) {
+                                Creature aux = creatures.get(j);
+                                aux.canTheft = true; //Autoriza criaturas a roubar novamente
+                            }
+                            moveIndex = 0;
+                        }
+
+                    }
+
+                    listener.creatureMoved(creature);
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Fim da rodada de movimento: absorção pelo guardião, formação de clusters e criaturas
+     * paradas e liberadas para roubar.
+     */
+    private void endRound(List<Creature> creatures) {
+        checkGuardian();
+        checkCluster();
+        creaturesMove = 0;
+        moveIndex = 0;
+
+        for (Creature aux : creatures) {
+            if (!aux.isGuardian) { //Guardiao deve continuar se movendo
+                aux.canTheft = true;
+                aux.canMove = false;
+            }
+        }
+    }
+
+    /**
+     * Um tick de {@link #phisycsUpdate()} no modo simultâneo: pulo de todas as criaturas e
+     * movimento horizontal de todas as liberadas.
+     */
+    private void moveConcurrently(List<Creature> creatures) {
+        int n = creatures.size();
+        int arrived;
+        if (parallelMovement && n >= PARALLEL_MOVEMENT_THRESHOLD && listener == SimulationListener.NONE) {
+            arrived = IntStream.range(0, n).parallel().map(i -> moveOne(creatures.get(i), n)).sum();
+        } else {
+            arrived = 0;
+            for (int i = 0; i < n; i++) {
+                arrived += moveOne(creatures.get(i), n);
+            }
+        }
+        creaturesMove += arrived;
+        // Muitas criaturas andam por tick: os índices são reconstruídos na próxima consulta.
+        indexDirty = true;
+        clusterIndexDirty = true;
+    }
+
+    /**
+     * Aplica a física de uma criatura no modo simultâneo. Altera apenas a própria criatura.
+     *
+     * @param creature Criatura a ser atualizada.
+     * @param steps    Passos de {@code spdX} que a criatura pode andar neste tick.
+     * @return 1 se a criatura chegou ao alvo neste tick, 0 caso contrário.
+     */
+    private int moveOne(Creature creature, int steps) {
+        if (!closedFormBounce) {
+            bounce(creature);
+        }
+
+        int arrived = 0;
+        if (creature.canMove && startSimulation && !creature.isGuardian) {
+            listener.creatureMoving(creature, true);
+            if (creature.x == creature.target) {
+                creature.canMove = false;
+                creature.canTheft = true;
+                arrived = 1;
+            } else {
+                creature.canTheft = false;
+                int reach = steps * creature.spdX;
+                int distance = creature.target - creature.x;
+                creature.x += Math.max(-reach, Math.min(reach, distance));
+            }
+        } else if (startSimulation) {
+            listener.creatureMoving(creature, false);
+        }
+        listener.creatureMoved(creature);
+        return arrived;
+    }
+
+    /**
+     * Faz o guardião absorver os clusters que estão dentro de {@link #fuseDistance}.
+     *
+     * @return true se algum cluster foi absorvido.
+     */
+    public boolean checkGuardian() {
+        if (indexedGuardian) {
+            return checkGuardianIndexed();
+        }
+        synchronized (Creatures) {
+            Creature guardian = getLast();
+
+            if (guardian != null && guardian.isGuardian) {
+                List<Creature> toRemove = new ArrayList<>();
+
+                for (Creature c : Creatures) {
+                    if (c.isCluster && Math.abs(c.x - guardian.x) <= fuseDistance) {
+                        guardian.gold += c.gold;
+                        toRemove.add(c);
+                    }
+                }
+                if (!toRemove.isEmpty()) {
+                    indexDirty = true;
+                    guardian.x = toRemove.getLast().x;
+                    for (Creature c : toRemove) {
+                        removeCreature(c);
+                        addPoints(50.0);
+                    }
+                    listener.creatureChanged(guardian);
+                    guardian.target = calcNextPosition(guardian);
+                    guardian.canMove = true;
+                    guardian.canTheft = false;
+                    return true;
+                }
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Versão de {@link #checkGuardian()} que consulta o {@link ClusterIndex}.
+     *
+     * @return true se algum cluster foi absorvido.
+     */
+    private boolean checkGuardianIndexed() {
+        synchronized (Creatures) {
+            Creature guardian = getLast();
+            if (guardian == null || !guardian.isGuardian) {
+                return false;
+            }
+            if (clusterIndexDirty) {
+                clusterIndex.rebuild(Creatures);
+                clusterIndexDirty = false;
+            }
+
+            absorbed.clear();
+            if (clusterIndex.removeRange(guardian.x - fuseDistance, guardian.x + fuseDistance, absorbed) == 0) {
+                return false;
+            }
+
+            for (Creature c : absorbed) {
+                guardian.gold += c.gold;
+            }
+            guardian.x = absorbed.getLast().x;
+            for (Creature c : absorbed) {
+                listener.creatureRemoved(c);
+                addPoints(50.0);
+            }
+            Creatures.removeAll(absorbed.size() > 8 ? new HashSet<>(absorbed) : absorbed);
+            absorbed.clear();
+            indexDirty = true;
+
+            listener.creatureChanged(guardian);
+            guardian.target = calcNextPosition(guardian);
+            guardian.canMove = true;
+            guardian.canTheft = false;
+            return true;
+        }
+    }
+
+    /**
+     * Registra um cluster recém-criado no {@link ClusterIndex}, se ele estiver em uso.
+     *
+     * @param cluster Cluster criado.
+     */
+    private void clusterAdded(Creature cluster) {
+        if (indexedGuardian && !clusterIndexDirty) {
+            clusterIndex.add(cluster);
+        }
+    }
+
+    /**
+     * Retira do {@link ClusterIndex} uma criatura que saiu da lista, se ela for um cluster
+     * (inclusive um cluster fundido em outro maior).
+     *
+     * @param removed Criatura removida.
+     */
+    private void clusterRemoved(Creature removed) {
+        if (removed.isCluster && indexedGuardian && !clusterIndexDirty) {
+            clusterIndex.remove(removed);
+        }
+    }
+
+    /**
+     * Checa se precisa criar novos clusters (duas ou mais criaturas na mesma posição).
+     *
+     * @return false se alguma criatura ficou isolada, true caso contrário.
+     */
+    public boolean checkCluster() {
+        if (sweepClustering) {
+            return checkClusterSweep();
+        }
+        synchronized (Creatures) {
+            List<Creature> left = new ArrayList<>(Creatures); // cópia para controle
+            List<List<Creature>> group = new ArrayList<>();
+
+            while (!left.isEmpty()) {
+                Creature base = left.removeFirst();
+
+                if (base.isGuardian) continue;
+
+                List<Creature> grupo = new ArrayList<>();
+                grupo.add(base);
+
+                Iterator<Creature> it = left.iterator();
+                while (it.hasNext()) {
+                    Creature c = it.next();
+                    if (!c.isGuardian && Math.abs(c.x - base.x) <= fuseDistance) {
+                        grupo.add(c);
+                        it.remove();
+                    }
+                }
+
+                if (grupo.size() > 1) {
+                    group.add(grupo);
+                } else {
+                    return false;
+                }
+            }
+
+            for (List<Creature> grupo : group) {
+                createCluster(new ArrayList<>(grupo));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Versão de {@link #checkCluster()} por varredura do índice ordenado.
+     *
+     * @return false se alguma criatura ficou isolada, true caso contrário.
+     */
+    private boolean checkClusterSweep() {
+        synchronized (Creatures) {
+            index.rebuild(Creatures);
+            indexDirty = false;
+
+            int m = index.size();
+            if (sweepNext.length < m + 1) {
+                int capacity = Math.max(m + 1, sweepNext.length * 2);
+                sweepNext = new int[capacity];
+                sweepMembers = new int[capacity];
+                sweepGroupEnd = new int[capacity];
+                sweepCreatures = new Creature[capacity];
+            }
+            for (int p = 0; p <= m; p++) {
+                sweepNext[p] = p;
+            }
+
+            int count = 0;
+            int groups = 0;
+            for (int i = 0; i < Creatures.size(); i++) {
+                int p = index.positionOf(i);
+                if (p < 0 || findUngrouped(p) != p) continue; // guardião ou já agrupada
+
+                int start = count;
+                int baseX = index.xAt(p);
+                sweepNext[p] = p + 1;
+                sweepMembers[count++] = i;
+
+                int q = findUngrouped(index.lowerBound(baseX - fuseDistance));
+                while (q < m && index.xAt(q) <= baseX + fuseDistance) {
+                    sweepMembers[count++] = index.indexAt(q);
+                    sweepNext[q] = q + 1;
+                    q = findUngrouped(q + 1);
+                }
+
+                if (count - start == 1) {
+                    return false;
+                }
+                // Mesma ordem do original: a base e depois as demais na ordem da lista
+                Arrays.sort(sweepMembers, start + 1, count);
+                sweepGroupEnd[groups++] = count;
+            }
+
+            fuseGroups(count, groups);
+            return true;
+        }
+    }
+
+    /**
+     * Cria de uma só vez os clusters dos grupos encontrados por {@link #checkClusterSweep()},
+     * com o mesmo efeito de chamar {@link #createCluster(ArrayList)} grupo a grupo, mas
+     * reescrevendo a lista uma única vez em vez de uma vez por grupo.
+     *
+     * @param count  Quantidade total de membros em {@link #sweepMembers}.
+     * @param groups Quantidade de grupos.
+     */
+    private void fuseGroups(int count, int groups) {
+        Creature guardian = getLast();
+        if (groups == 0 || guardian == null || !guardian.isGuardian) return;
+
+        int n = Creatures.size();
+        if (sweepCreatures.length < n) {
+            sweepCreatures = new Creature[Math.max(n, sweepCreatures.length * 2)];
+        }
+        for (int i = 0; i < n; i++) {
+            sweepCreatures[i] = Creatures.get(i);
+        }
+
+        // Marca os membros com null e cria os clusters na ordem original
+        List<Creature> clusters = new ArrayList<>(groups);
+        int start = 0;
+        for (int g = 0; g < groups; g++) {
+            int end = sweepGroupEnd[g];
+            Creature first = sweepCreatures[sweepMembers[start]];
+            Creature cluster = new Creature(first.x, groundY - 20, 1, 0, null);
+            cluster.gold = 0.0;
+            cluster.isCluster = true;
+            if (closedFormBounce) anchorBounce(cluster);
+
+            for (int k = start; k < end; k++) {
+                Creature aux = sweepCreatures[sweepMembers[k]];
+                cluster.gold += aux.gold;
+                listener.creatureRemoved(aux);
+                clusterRemoved(aux);
+                addPoints(20.0);
+                sweepCreatures[sweepMembers[k]] = null;
+            }
+            cluster.target = calcNextPosition(cluster);
+            cluster.canMove = true;
+            listener.creatureAdded(cluster);
+            clusters.add(cluster);
+            clusterAdded(cluster);
+            start = end;
+        }
+
+        Creatures.clear();
+        for (int i = 0; i < n - 1; i++) { // o último é o guardião
+            if (sweepCreatures[i] != null) {
+                Creatures.add(sweepCreatures[i]);
+            }
+        }
+        Creatures.addAll(clusters);
+        Creatures.add(guardian);
+        Arrays.fill(sweepCreatures, 0, n, null);
+        indexDirty = true;
+    }
+
+    /**
+     * Primeira posição ordenada a partir de {@code p} que ainda não entrou em um grupo.
+     *
+     * @param p Posição inicial.
+     * @return Posição livre, ou {@code index.size()} se não houver.
+     */
+    private int findUngrouped(int p) {
+        int root = p;
+        while (sweepNext[root] != root) {
+            root = sweepNext[root];
+        }
+        while (sweepNext[p] != root) {
+            int next = sweepNext[p];
+            sweepNext[p] = root;
+            p = next;
+        }
+        return root;
+    }
+
+    /**
+     * Remove uma criatura específica da simulação.
+     *
+     * @param remove Criatura a ser removida.
+     * @return true se a criatura foi removida.
+     */
+    public boolean removeCreature(Creature remove) {
+        synchronized (Creatures) {
+            if (Creatures.size() <= 1 || remove.isGuardian) {
+                return false;
+            }
+            listener.creatureRemoved(remove);
+            Creatures.remove(remove);
+            indexDirty = true;
+            clusterRemoved(remove);
+            return true;
+        }
+    }
+
+    /**
+     * Retorna a última criatura da lista.
+     *
+     * @return Última criatura da lista, ou {@code null} se estiver vazia.
+     */
+    public Creature getLast() {
+        synchronized (Creatures) {
+            if (Creatures.isEmpty()) {
+                return null;
+            }
+            return Creatures.getLast();
+        }
+    }
+
+    /**
+     * Inicia a simulação criando o guardião. A pontuação e as interações recomeçam do zero,
+     * de modo que {@link #getPoints()} e {@link #getInteractions()} valem por simulação
+     * também quando o mesmo motor executa várias.
+     *
+     * @param guardianX Posição X inicial do guardião.
+     * @return true se a simulação foi iniciada, false se ela já estava em andamento.
+     */
+    public boolean start(int guardianX) {
+        synchronized (Creatures) {
+            if (startSimulation) {
+                return false;
+            }
+            startSimulation = true;
+            moveIndex = 0;
+            interacao = 0;
+            points = 0;
+            createGuardian(guardianX);
+            return true;
+        }
+    }
+
+    /**
+     * Encerra a simulação.
+     *
+     * @return true se a simulação estava em andamento.
+     */
+    public boolean stop() {
+        synchronized (Creatures) {
+            boolean wasRunning = startSimulation;
+            startSimulation = false;
+            syncBounce();
+            return wasRunning;
+        }
+    }
+
+    /**
+     * Avança a simulação em um tick de física, executando a atualização lógica
+     * a cada {@link #TICKS_PER_UPDATE} ticks, como fazem os timers do painel, ou, com
+     * {@link #setEventDrivenRounds(boolean, int)}, assim que o movimento da rodada termina.
+     *
+     * @return true enquanto a simulação não atingiu a condição de término.
+     */
+    public boolean step() {
+        synchronized (Creatures) {
+            ticks++;
+            ticksSinceUpdate++;
+            boolean due = eventDrivenRounds
+                    ? ticksSinceUpdate >= minRoundTicks && isCanUpdate()
+                    : ticks % TICKS_PER_UPDATE == 0;
+            if (due) {
+                update();
+                ticksSinceUpdate = 0;
+            }
+            phisycsUpdate();
+            return !isFinished();
+        }
+    }
+
+    /**
+     * Executa a simulação até a condição de término e a encerra.
+     *
+     * @return true se a simulação terminou em vitória.
+     */
+    public boolean run() {
+        synchronized (Creatures) {
+            while (step()) {
+                // avança até o fim
+            }
+            stop();
+            return isVictory();
+        }
+    }
+
+    /**
+     * Executa a simulação até a condição de término por eventos discretos e a encerra, com
+     * exatamente o mesmo resultado de {@link #run()}.
+     *
+     * <p>Entre dois eventos (atualização lógica, fim da rodada de movimento e término) o
+     * estado evolui de forma previsível: a criatura de {@link #moveIndex} anda um pixel por
+     * iteração até o alvo, as paradas apenas avançam o índice e o pulo é periódico. Em vez de
+     * repetir essas iterações, o motor calcula de uma vez quantas cabem até o próximo evento:
+     * cada criatura anda até o alvo em um salto, uma volta do índice sobre criaturas paradas
+     * é resolvida com aritmética modular e o pulo avança pelo seu período. Os eventos usam o
+     * mesmo código do laço por ticks ({@link #update()}, {@link #checkGuardian()},
+     * {@link #checkCluster()}), no mesmo tick e na mesma ordem, de modo que pontos, sorteios e
+     * o estado final das criaturas são idênticos.</p>
+     *
+     * <p>Não notifica o {@link SimulationListener} a cada tick (apenas nos eventos), então é
+     * indicado para execuções sem tela. Nos modos de movimento simultâneo e de rodadas
+     * por eventos, equivale a {@link #run()}.</p>
+     *
+     * @return true se a simulação terminou em vitória.
+     */
+    public boolean runDiscrete() {
+        synchronized (Creatures) {
+            if (concurrentMovement || eventDrivenRounds) {
+                return run();
+            }
+            while (true) {
+                // Início de um tick, como em step() e phisycsUpdate().
+                ticks++;
+                if (ticks % TICKS_PER_UPDATE == 0) {
+                    update();
+                }
+                if (!Creatures.isEmpty() && creaturesMove >= Creatures.size()) {
+                    endRound(Creatures);
+                }
+                boolean finished = isFinished();
+
+                // Até o próximo tick com evento nada muda além do movimento e do pulo.
+                long span = finished ? 1 : TICKS_PER_UPDATE - ticks % TICKS_PER_UPDATE;
+                int n = Creatures.size();
+                if (n > 0) {
+                    long budget = span * n;
+                    long used = advanceMovement(budget, true);
+                    if (used < budget) {
+                        // A rodada terminou: completa o tick; o fim da rodada é no próximo.
+                        span = (used + n - 1) / n;
+                        advanceMovement(span * n - used, false);
+                    }
+                    bounceClock += span;
+                    if (!closedFormBounce) {
+                        for (Creature creature : Creatures) {
+                            advanceBounce(creature, span);
+                        }
+                    }
+                }
+                ticks += span - 1;
+                if (finished) {
+                    break;
+                }
+            }
+            stop();
+            return isVictory();
+        }
+    }
+
+    /**
+     * Executa em bloco iterações do movimento horizontal do laço original de
+     * {@link #phisycsUpdate()} (uma por criatura da lista a cada tick).
+     *
+     * @param budget         Quantidade de iterações.
+     * @param stopAtRoundEnd Se true, para logo após a chegada que completa a rodada.
+     * @return Iterações executadas.
+     */
+    private long advanceMovement(long budget, boolean stopAtRoundEnd) {
+        List<Creature> creatures = Creatures;
+        int n = creatures.size();
+        // Posições visitadas pelo índice: o guardião, no fim, só é visitado se estiver sozinho.
+        int cycle = Math.max(1, n - 1);
+        int movers = 0;
+        for (int i = 0; i < cycle; i++) {
+            if (creatures.get(i).canMove) movers++;
+        }
+
+        long used = 0;
+        while (used < budget) {
+            if (moveIndex >= n) {
+                moveIndex = 0;
+            }
+            if (movers == 0 && moveIndex < cycle) {
+                // Só criaturas paradas: o índice dá voltas e libera os roubos ao passar do fim.
+                long remaining = budget - used;
+                if (moveIndex + remaining >= cycle) {
+                    enableTheft(creatures);
+                }
+                moveIndex = (int) ((moveIndex + remaining) % cycle);
+                return budget;
+            }
+
+            Creature moving = creatures.get(moveIndex);
+            if (moving.canMove) {
+                int distance = moving.target - moving.x;
+                if (distance != 0) {
+                    int steps = (int) Math.min(budget - used, Math.abs(distance));
+                    int oldX = moving.x;
+                    moving.canTheft = false;
+                    moving.x += distance > 0 ? steps : -steps;
+                    used += steps;
+                    if (indexedTheft && !indexDirty) {
+                        index.moved(moveIndex);
+                    }
+                    if (moving.isCluster && indexedGuardian && !clusterIndexDirty) {
+                        clusterIndex.moved(moving, oldX);
+                    }
+                    if (used == budget) {
+                        break;
+                    }
+                }
+                // Iteração seguinte à chegada: a criatura para e conta para o fim da rodada.
+                moving.canMove = false;
+                creaturesMove++;
+                movers--;
+                used++;
+                if (stopAtRoundEnd && creaturesMove >= n) {
+                    break;
+                }
+            } else {
+                moveIndex = (moveIndex + 1) % n;
+                if (moveIndex >= n - 1) {
+                    enableTheft(creatures);
+                    moveIndex = 0;
+                }
+                used++;
+            }
+        }
+        return used;
+    }
+
+    /**
+     * Autoriza todas as criaturas a roubar novamente (volta completa do índice).
+     */
+    private static void enableTheft(List<Creature> creatures) {
+        for (Creature aux : creatures) {
+            aux.canTheft = true;
+        }
+    }
+
+    /**
+     * Avança o pulo de uma criatura em {@code ticks} ticks: passo a passo até o primeiro toque
+     * no chão e, a partir daí, pela tabela do pulo.
+     */
+    private void advanceBounce(Creature creature, long ticks) {
+        while (ticks > 0 && (creature.y != groundY || creature.spdY != jumpForce)) {
+            bounce(creature);
+            ticks--;
+        }
+        if (ticks == 0) {
+            return;
+        }
+        int phase = (int) (ticks % getBouncePeriod());
+        creature.y = bounceYTable[phase];
+        creature.spdY = bounceSpdYTable[phase];
+    }
+
+    /** Um tick de pulo: gravidade e, ao tocar o chão, novo impulso. */
+    private void bounce(Creature creature) {
+        creature.spdY = (int) (creature.spdY + grav);
+        creature.y += creature.spdY;
+        if (creature.y >= groundY) {
+            creature.y = groundY;
+            creature.spdY = jumpForce;
+        }
+    }
+
+    /**
+     * Verifica se a simulação em andamento atingiu a condição de término: restam apenas o
+     * guardião e uma criatura, ou o número máximo de interações foi atingido.
+     *
+     * @return true se a simulação deve terminar.
+     */
+    public boolean isFinished() {
+        synchronized (Creatures) {
+            if (!startSimulation) return false;
+
+            int normalCount = 0;
+            Creature guardian = null;
+
+            for (Creature c : Creatures) {
+                if (c.isGuardian) {
+                    guardian = c;
+                } else {
+                    normalCount++;
+                }
+            }
+
+            return (normalCount == 1 && guardian != null) || interacao >= maxInteration;
+        }
+    }
+
+    /** @return true se a pontuação da simulação atingiu {@link #GOAL_POINTS}. */
+    public boolean isVictory() {
+        return points >= GOAL_POINTS;
+    }
+
+    /**
+     * Calcula a próxima posição horizontal da criatura na tela com base em seu alvo.
+     *
+     * @param creature Criatura cuja posição será calculada.
+     * @return Posição X em pixels na tela.
+     */
+    public int calcNextPosition(Creature creature) {
+        double rawTarget = calcTarget(creature);
+        double normalized = normalizedTarget(rawTarget);
+        int w = width.getAsInt();
+        int screenTarget = (int) (normalized * (w - CREATURE_SIZE));
+        return Math.max(0, Math.min(screenTarget, w - CREATURE_SIZE));
+    }
+
+    /**
+     * Normaliza o valor alvo entre 0 e 1.
+     *
+     * @param noNormalizedTarget Valor alvo não normalizado.
+     * @return Valor normalizado entre 0 e 1.
+     */
+    public double normalizedTarget(double noNormalizedTarget) {
+        int minX = -1000000;
+        int maxX = 1000000;
+        int range = maxX - minX;
+        return (noNormalizedTarget - minX) / range;
+    }
+
+    /**
+     * Soma pontos à simulação e, se houver, ao usuário associado.
+     *
+     * @param value Pontos a serem somados.
+     */
+    private void addPoints(double value) {
+        points += value;
+        if (user != null) {
+            user.addPoints(value);
+        }
+    }
+
+    /** @return Pontuação acumulada nesta simulação. */
+    public double getPoints() {
+        return points;
+    }
+
+    /** @return Quantidade de interações (atualizações lógicas) executadas nesta simulação. */
+    public int getInteractions() {
+        return interacao;
+    }
+
+    /** @return Quantidade de ticks executados por {@link #step()}. */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /** @return Posição Y que representa o chão. */
+    public int getGroundY() {
+        return groundY;
+    }
+
+    /** @return Largura atual da área da simulação. */
+    public int getWidth() {
+        return width.getAsInt();
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.model;
+
+/**
+ * Observador dos eventos visuais gerados pelo {@link SimulationEngine}.
+ *
+ * <p>O motor de simulação não conhece Swing: tudo o que antes era feito diretamente
+ * nos {@code JLabel}s das criaturas (texto, cor, posição, remoção do painel) passa a ser
+ * notificado por esta interface. Todos os métodos têm implementação vazia, de modo que
+ * execuções sem interface gráfica não precisam registrar nenhum observador.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationEngine
+ * @see CreaturesPanel
+ */
+public interface SimulationListener {
+
+    /** Observador que ignora todos os eventos (execuções headless). */
+    SimulationListener NONE = new SimulationListener() {};
+
+    /**
+     * Uma nova criatura, cluster ou guardião foi criado pelo motor.
+     *
+     * @param creature Criatura criada.
+     */
+    default void creatureAdded(Creature creature) {}
+
+    /**
+     * O ouro da criatura mudou e sua representação textual deve ser atualizada.
+     *
+     * @param creature Criatura alterada.
+     */
+    default void creatureChanged(Creature creature) {}
+
+    /**
+     * A criatura saiu da simulação (fusão em cluster ou absorção pelo guardião).
+     *
+     * @param creature Criatura removida.
+     */
+    default void creatureRemoved(Creature creature) {}
+
+    /**
+     * A criatura da vez no movimento horizontal começou ou deixou de se mover.
+     *
+     * @param creature Criatura da vez.
+     * @param moving   {@code true} se ela está se movendo neste tick.
+     */
+    default void creatureMoving(Creature creature, boolean moving) {}
+
+    /**
+     * A física da criatura foi integrada neste tick (posição possivelmente alterada).
+     *
+     * @param creature Criatura atualizada.
+     */
+    default void creatureMoved(Creature creature) {}
+}
@@ -0,0 +1,216 @@
+package org.example.model;
+
+import java.awt.Rectangle;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Laço de simulação com passo de tempo fixo, executado em uma thread própria.
+ *
+ * <p>Substitui os {@link javax.swing.Timer}s do {@link CreaturesPanel}: em vez de depender
+ * do agendamento da EDT (que atrasa sob carga e para enquanto um {@code JOptionPane} está
+ * aberto), a thread acumula o tempo real decorrido e executa quantos ticks de física
+ * couberem nele, sempre com o mesmo passo. O resultado da física depende apenas da
+ * quantidade de ticks, e nunca da taxa de quadros da pintura.</p>
+ *
+ * <p>Antes do início da simulação só a física de pulo roda; depois, cada tick é um
+ * {@link SimulationEngine#step()}. Ao fim de cada lote de ticks um quadro
+ * ({@link SimulationSnapshot}) é publicado para a pintura por um {@link SnapshotBuffer} sem
+ * travas. Com frequência menor ou igual a zero o laço roda tão rápido quanto possível, útil
+ * quando não há tela.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationEngine
+ * @see SimulationSnapshot
+ */
+public class SimulationLoop implements Runnable {
+
+    /** Frequência padrão: um tick a cada {@link SimulationEngine#PHYSICS_INTERVAL} ms. */
+    public static final double DEFAULT_HZ = 1000.0 / SimulationEngine.PHYSICS_INTERVAL;
+
+    /** Tempo máximo acumulado por iteração, para não "disparar" após uma pausa longa. */
+    private static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    /** Motor avançado pelo laço. */
+    private final SimulationEngine engine;
+
+    /** Duração de um tick em nanossegundos, ou 0 para rodar sem limite. */
+    private final long stepNanos;
+
+    /** Executado após cada publicação (por exemplo, pedir repaint). */
+    private final Runnable onFrame;
+
+    /** Executado uma vez quando a simulação termina. */
+    private final Runnable onFinished;
+
+    /** Quadros trocados sem travas com a pintura. */
+    private final SnapshotBuffer frames = new SnapshotBuffer();
+
+    /** Região ocupada pelas criaturas no quadro anterior (usado só pela thread do laço). */
+    private Rectangle previousBounds;
+
+    /** Região a repintar: união das regiões do quadro anterior e do atual. */
+    private volatile Rectangle dirtyBounds;
+
+    /** Indica se o laço deve continuar. */
+    private volatile boolean running = false;
+
+    /** Thread do laço. */
+    private Thread thread;
+
+    /**
+     * Cria o laço de simulação.
+     *
+     * @param engine     Motor a ser avançado.
+     * @param hz         Ticks por segundo; menor ou igual a zero para rodar o mais rápido possível.
+     * @param onFrame    Chamado após cada quadro publicado (pode ser {@code null}).
+     * @param onFinished Chamado quando a simulação termina (pode ser {@code null}).
+     */
+    public SimulationLoop(SimulationEngine engine, double hz, Runnable onFrame, Runnable onFinished) {
+        this.engine = engine;
+        this.stepNanos = hz > 0 ? Math.max(1L, Math.round(1e9 / hz)) : 0L;
+        this.onFrame = onFrame == null ? () -> {} : onFrame;
+        this.onFinished = onFinished == null ? () -> {} : onFinished;
+    }
+
+    /**
+     * Inicia a thread do laço, se ainda não estiver rodando.
+     */
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        publish();
+        thread = new Thread(this, "simulation-loop");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Para o laço e aguarda a thread terminar.
+     */
+    public void stop() {
+        Thread t;
+        synchronized (this) {
+            running = false;
+            t = thread;
+            thread = null;
+        }
+        if (t != null && t != Thread.currentThread()) {
+            LockSupport.unpark(t);
+            try {
+                t.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** @return true se a thread do laço está ativa. */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Obtém o quadro publicado mais recente. Deve ser chamado sempre pela mesma thread
+     * (a EDT); o quadro continua válido até a próxima chamada.
+     *
+     * @return Quadro mais recente (nunca {@code null}).
+     */
+    public SimulationSnapshot getSnapshot() {
+        return frames.acquire();
+    }
+
+    @Override
+    public void run() {
+        if (stepNanos == 0) {
+            runUnbounded();
+        } else {
+            runFixed();
+        }
+    }
+
+    /** Passo fixo: acumula o tempo real e executa um tick por passo decorrido. */
+    private void runFixed() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += Math.min(now - previous, MAX_FRAME_NANOS);
+            previous = now;
+
+            boolean ticked = false;
+            while (accumulator >= stepNanos && running) {
+                accumulator -= stepNanos;
+                ticked = true;
+                if (tick()) {
+                    finish();
+                    return;
+                }
+            }
+
+            if (ticked) {
+                publish();
+                onFrame.run();
+            }
+            LockSupport.parkNanos(stepNanos - accumulator);
+        }
+    }
+
+    /** Sem limite de frequência: publica apenas a cada atualização lógica. */
+    private void runUnbounded() {
+        long ticks = 0;
+        while (running) {
+            if (tick()) {
+                finish();
+                return;
+            }
+            if (++ticks % SimulationEngine.TICKS_PER_UPDATE == 0) {
+                publish();
+                onFrame.run();
+            }
+        }
+    }
+
+    /**
+     * Executa um tick: só física antes do início, física e lógica durante a simulação.
+     *
+     * @return true se a simulação terminou neste tick.
+     */
+    private boolean tick() {
+        synchronized (engine.Creatures) {
+            if (engine.startSimulation) {
+                return !engine.step();
+            }
+            engine.phisycsUpdate();
+            return false;
+        }
+    }
+
+    /** Publica o quadro final e avisa o término. */
+    private void finish() {
+        running = false;
+        publish();
+        onFrame.run();
+        onFinished.run();
+    }
+
+    /**
+     * Região que mudou entre os dois últimos quadros publicados, para repintura parcial.
+     *
+     * @return Região alterada, ou {@code null} se for preciso repintar tudo.
+     */
+    public Rectangle getDirtyBounds() {
+        return dirtyBounds;
+    }
+
+    /** Copia o estado atual do motor para o próximo quadro e o publica. */
+    private void publish() {
+        Rectangle bounds;
+        synchronized (engine.Creatures) {
+            bounds = frames.publish(engine).bounds();
+        }
+        dirtyBounds = (bounds == null || previousBounds == null) ? null : bounds.union(previousBounds);
+        previousBounds = bounds;
+    }
+}
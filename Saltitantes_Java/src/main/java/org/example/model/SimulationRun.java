@@ -0,0 +1,20 @@
+package org.example.model;
+
+/**
+ * Resultado de uma simulação, gravado na tabela de histórico {@code simulation_runs}.
+ *
+ * @param userName       Usuário que executou a simulação.
+ * @param seed           Semente do gerador de números aleatórios do motor.
+ * @param creatures      Quantidade de criaturas no início da simulação.
+ * @param iterations     Interações executadas até o fim.
+ * @param points         Pontuação final.
+ * @param victory        {@code true} se a pontuação atingiu {@link SimulationEngine#GOAL_POINTS}.
+ * @param durationMillis Duração da simulação, em milissegundos.
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationRunWriter
+ * @see SQLite#getRunHistory(String, int)
+ */
+public record SimulationRun(String userName, long seed, int creatures, int iterations,
+                            double points, boolean victory, long durationMillis) {
+}
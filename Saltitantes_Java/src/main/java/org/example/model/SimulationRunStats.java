@@ -0,0 +1,25 @@
+package org.example.model;
+
+/**
+ * Estatísticas agregadas do histórico de simulações de um usuário.
+ *
+ * @param runs               Quantidade de simulações gravadas.
+ * @param wins               Quantidade de vitórias.
+ * @param meanPoints         Pontuação média.
+ * @param bestPoints         Maior pontuação.
+ * @param meanDurationMillis Duração média, em milissegundos.
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLite#getRunStats(String)
+ */
+public record SimulationRunStats(int runs, int wins, double meanPoints, double bestPoints, double meanDurationMillis) {
+
+    /**
+     * Calcula a fração de simulações vencidas.
+     *
+     * @return Taxa de vitória entre 0.0 e 1.0 (0.0 sem simulações).
+     */
+    public double winRate() {
+        return runs == 0 ? 0.0 : (double) wins / runs;
+    }
+}
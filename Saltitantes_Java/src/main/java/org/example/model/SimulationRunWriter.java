@@ -0,0 +1,63 @@
+package org.example.model;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Gravação em lote, somente por inserção, do histórico de simulações.
+ *
+ * <p>{@link #append(SimulationRun)} apenas acrescenta o resultado a um buffer e retorna.
+ * Depois de {@link #start()}, uma thread de fundo grava o buffer inteiro em uma única
+ * transação, um pouco depois do primeiro resultado ou assim que o buffer atinge o tamanho
+ * do lote, de modo que execuções em lote ({@link SimulationBatch}) com milhares de
+ * simulações não pagam uma transação por linha. Leituras do histórico chamam
+ * {@link #flush()} antes e {@link #close()} grava o que estiver pendente. O buffer, as
+ * novas tentativas e a thread ficam no {@link BatchedWriter}.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLiteDataSource#getRunWriter()
+ * @see UserWriteBehind
+ */
+public class SimulationRunWriter extends BatchedWriter<SimulationRun> {
+
+    /** Espera padrão, em milissegundos, para acumular resultados antes de gravar. */
+    public static final long DEFAULT_DELAY_MS = 200;
+
+    /** Tamanho padrão do lote que dispara a gravação sem esperar. */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * Cria o gravador; a thread de gravação só começa em {@link #start()}.
+     *
+     * @param dataSource  Fonte das conexões usadas na gravação.
+     * @param delayMillis Espera para acumular resultados antes de gravar.
+     * @param batchSize   Tamanho do lote que dispara a gravação sem esperar.
+     */
+    public SimulationRunWriter(SQLiteDataSource dataSource, long delayMillis, int batchSize) {
+        super(dataSource, "sqlite-run-writer", delayMillis, batchSize, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Acrescenta um resultado ao histórico.
+     *
+     * @param run Resultado da simulação.
+     */
+    public void append(SimulationRun run) {
+        add(run);
+    }
+
+    /**
+     * Grava um lote de resultados.
+     */
+    @Override
+    protected void write(StatementCache statements, Collection<SimulationRun> batch) throws SQLException {
+        PreparedStatement insert = statements.prepare(SQLite.SQL_INSERT_RUN);
+        for (SimulationRun run : batch) {
+            SQLite.bindRun(insert, run);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+    }
+}
@@ -0,0 +1,156 @@
+package org.example.model;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Quadro com o estado visível da simulação em um tick, em vetores de tipos primitivos.
+ *
+ * <p>Os quadros são reaproveitados pelo {@link SnapshotBuffer}: a thread da simulação
+ * preenche um quadro livre com {@link #capture(SimulationEngine)} e o publica; a partir daí
+ * ele é somente leitura para quem o obteve, até ser devolvido na próxima troca. Assim a
+ * pintura nunca toca nas {@link Creature}s e nenhum objeto é alocado por tick.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SnapshotBuffer
+ * @see SimulationLoop
+ */
+public final class SimulationSnapshot {
+
+    /** Criatura comum. */
+    public static final byte CREATURE = 0;
+
+    /** Cluster. */
+    public static final byte CLUSTER = 1;
+
+    /** Guardião. */
+    public static final byte GUARDIAN = 2;
+
+    /** Quadro sem nenhuma criatura. */
+    public static final SimulationSnapshot EMPTY = new SimulationSnapshot();
+
+    /** Ticks executados pelo motor até este quadro. */
+    private long tick;
+
+    /** Quantidade de criaturas válidas nos vetores. */
+    private int size;
+
+    /** Posição X de cada criatura, na ordem da lista do motor. */
+    private int[] x = new int[0];
+
+    /** Posição Y de cada criatura. */
+    private int[] y = new int[0];
+
+    /** Tipo de cada criatura ({@link #CREATURE}, {@link #CLUSTER} ou {@link #GUARDIAN}). */
+    private byte[] kind = new byte[0];
+
+    /** Ouro de cada criatura. */
+    private double[] gold = new double[0];
+
+    /** Índice da criatura que está se movendo, ou -1. */
+    private int movingIndex = -1;
+
+    /** Se a simulação atingiu a condição de término. */
+    private boolean finished;
+
+    /** Margem ao redor das criaturas ocupada pelo texto do ouro. */
+    private static final int TEXT_MARGIN = 20;
+
+    /** Limites da região ocupada pelas criaturas (e seus textos) neste quadro. */
+    private int minX, minY, maxX, maxY;
+
+    /**
+     * Copia o estado atual das criaturas do motor para este quadro, aumentando os vetores
+     * apenas quando a população cresce. Deve ser chamado com o monitor de
+     * {@link SimulationEngine#Creatures} adquirido.
+     *
+     * @param engine Motor de origem.
+     */
+    void capture(SimulationEngine engine) {
+        List<Creature> creatures = engine.Creatures;
+        int n = creatures.size();
+        if (x.length < n) {
+            int capacity = Math.max(n, x.length * 2);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            kind = Arrays.copyOf(kind, capacity);
+            gold = Arrays.copyOf(gold, capacity);
+        }
+
+        int x0 = Integer.MAX_VALUE, y0 = Integer.MAX_VALUE, x1 = Integer.MIN_VALUE, y1 = Integer.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            Creature c = creatures.get(i);
+            int cy = engine.bounceY(c);
+            x[i] = c.x;
+            y[i] = cy;
+            kind[i] = c.isGuardian ? GUARDIAN : c.isCluster ? CLUSTER : CREATURE;
+            gold[i] = c.gold;
+            x0 = Math.min(x0, c.x);
+            y0 = Math.min(y0, cy);
+            x1 = Math.max(x1, c.x);
+            y1 = Math.max(y1, cy);
+        }
+        minX = x0 - TEXT_MARGIN;
+        minY = y0 - TEXT_MARGIN;
+        maxX = x1 + SimulationEngine.CREATURE_SIZE + TEXT_MARGIN;
+        maxY = y1 + SimulationEngine.CREATURE_SIZE;
+        size = n;
+        tick = engine.getTicks();
+        movingIndex = -1;
+        if (engine.startSimulation && engine.moveIndex < n && creatures.get(engine.moveIndex).canMove) {
+            movingIndex = engine.moveIndex;
+        }
+        finished = engine.isFinished();
+    }
+
+    /** @return Ticks executados pelo motor até este quadro. */
+    public long tick() {
+        return tick;
+    }
+
+    /** @return Quantidade de criaturas no quadro. */
+    public int size() {
+        return size;
+    }
+
+    /** @return Posição X da criatura {@code i}. */
+    public int x(int i) {
+        return x[i];
+    }
+
+    /** @return Posição Y da criatura {@code i}. */
+    public int y(int i) {
+        return y[i];
+    }
+
+    /** @return Tipo da criatura {@code i}. */
+    public byte kind(int i) {
+        return kind[i];
+    }
+
+    /** @return Ouro da criatura {@code i}. */
+    public double gold(int i) {
+        return gold[i];
+    }
+
+    /** @return Índice da criatura que está se movendo, ou -1. */
+    public int movingIndex() {
+        return movingIndex;
+    }
+
+    /**
+     * Região ocupada pelas criaturas e seus textos neste quadro.
+     *
+     * @return Retângulo da região, ou {@code null} se o quadro está vazio.
+     */
+    public Rectangle bounds() {
+        return size == 0 ? null : new Rectangle(minX, minY, maxX - minX, maxY - minY);
+    }
+
+    /** @return true se a simulação atingiu a condição de término. */
+    public boolean finished() {
+        return finished;
+    }
+}
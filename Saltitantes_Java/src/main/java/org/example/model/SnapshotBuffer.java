@@ -0,0 +1,72 @@
+package org.example.model;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Buffer triplo sem travas para trocar quadros entre a simulação e a pintura.
+ *
+ * <p>Há três {@link SimulationSnapshot}s: o de escrita (da thread da simulação), o de
+ * leitura (da EDT) e um intermediário. Publicar e obter o quadro mais recente são apenas
+ * uma troca atômica do índice intermediário, de modo que nenhum dos lados espera pelo
+ * outro e os quadros são reaproveitados indefinidamente.</p>
+ *
+ * <p>Há um único escritor ({@link #publish(SimulationEngine)}) e um único leitor
+ * ({@link #acquire()}); um quadro obtido continua válido até a próxima chamada de
+ * {@link #acquire()}.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationSnapshot
+ * @see SimulationLoop
+ */
+public class SnapshotBuffer {
+
+    /** Bit que indica que o quadro intermediário é mais novo que o de leitura. */
+    private static final int FRESH = 4;
+
+    /** Máscara do índice do quadro. */
+    private static final int INDEX = 3;
+
+    /** Os três quadros. */
+    private final SimulationSnapshot[] frames = {
+            new SimulationSnapshot(), new SimulationSnapshot(), new SimulationSnapshot()};
+
+    /** Índice do quadro intermediário, com o bit {@link #FRESH}. */
+    private final AtomicInteger middle = new AtomicInteger(1);
+
+    /** Índice do quadro de escrita (usado só pelo escritor). */
+    private int back = 0;
+
+    /** Índice do quadro de leitura (usado só pelo leitor). */
+    private int front = 2;
+
+    /** Indica se o leitor já recebeu algum quadro (usado só pelo leitor). */
+    private boolean published = false;
+
+    /**
+     * Copia o estado do motor para o quadro de escrita e o publica. Deve ser chamado com o
+     * monitor de {@link SimulationEngine#Creatures} adquirido.
+     *
+     * @param engine Motor de origem.
+     * @return O quadro publicado; o escritor pode lê-lo até a sua próxima publicação.
+     */
+    public SimulationSnapshot publish(SimulationEngine engine) {
+        SimulationSnapshot frame = frames[back];
+        frame.capture(engine);
+        back = middle.getAndSet(back | FRESH) & INDEX;
+        return frame;
+    }
+
+    /**
+     * Obtém o quadro publicado mais recente.
+     *
+     * @return Quadro mais recente, ou {@link SimulationSnapshot#EMPTY} se nada foi publicado.
+     */
+    public SimulationSnapshot acquire() {
+        if ((middle.get() & FRESH) != 0) {
+            front = middle.getAndSet(front) & INDEX;
+            published = true;
+        }
+        return published ? frames[front] : SimulationSnapshot.EMPTY;
+    }
+}
@@ -0,0 +1,238 @@
+package org.example.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice espacial unidimensional das criaturas, ordenado pela posição {@code x}.
+ *
+ * <p>Guarda as criaturas (exceto o guardião) em um vetor ordenado por {@code (x, índice na
+ * lista)}, permitindo encontrar a vizinha mais próxima com busca binária em O(log n) em vez
+ * de percorrer a lista inteira. Como as criaturas andam um passo por vez, o índice é
+ * mantido incrementalmente: {@link #moved(int)} desloca a criatura apenas até a sua nova
+ * posição, normalmente uma troca com a vizinha ou nenhuma.</p>
+ *
+ * <p>Os índices usados na API são as posições das criaturas na lista do motor no momento
+ * do último {@link #rebuild(List)}; qualquer inserção ou remoção na lista exige uma nova
+ * reconstrução.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SimulationEngine#thiefNeighbor(Creature)
+ */
+public class SpatialIndex {
+
+    /** Criaturas ordenadas por {@code (x, índice na lista)}. */
+    private Creature[] sorted = new Creature[16];
+
+    /** Cópia contígua de {@code x} de cada entrada de {@link #sorted}, para a busca binária. */
+    private int[] xs = new int[16];
+
+    /** Índice na lista de cada criatura de {@link #sorted}. */
+    private int[] listIndex = new int[16];
+
+    /** Posição em {@link #sorted} de cada índice da lista, ou -1 se não indexado (guardião). */
+    private int[] position = new int[16];
+
+    /** Chaves {@code (x, índice)} reaproveitadas entre reconstruções. */
+    private long[] keys = new long[16];
+
+    /** Quantidade de criaturas indexadas. */
+    private int size = 0;
+
+    /** Tamanho da lista no último {@link #rebuild(List)}. */
+    private int listSize = 0;
+
+    /**
+     * Reconstrói o índice a partir da lista de criaturas, ignorando o guardião. O(n log n).
+     *
+     * @param creatures Lista de criaturas do motor.
+     */
+    public void rebuild(List<Creature> creatures) {
+        int n = creatures.size();
+        if (sorted.length < n) {
+            int capacity = Math.max(n, sorted.length * 2);
+            sorted = new Creature[capacity];
+            xs = new int[capacity];
+            listIndex = new int[capacity];
+            position = new int[capacity];
+            keys = new long[capacity];
+        }
+
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            Creature c = creatures.get(i);
+            position[i] = -1;
+            if (!c.isGuardian) {
+                keys[count++] = ((long) c.x << 32) | i;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+
+        if (count < size) {
+            Arrays.fill(sorted, count, size, null);
+        }
+        for (int p = 0; p < count; p++) {
+            int i = (int) keys[p];
+            sorted[p] = creatures.get(i);
+            xs[p] = (int) (keys[p] >> 32);
+            listIndex[p] = i;
+            position[i] = p;
+        }
+        size = count;
+        listSize = n;
+    }
+
+    /**
+     * Reposiciona uma criatura cujo {@code x} mudou desde a última atualização do índice.
+     *
+     * @param index Índice da criatura na lista.
+     */
+    public void moved(int index) {
+        if (index < 0 || index >= listSize) return;
+        int p = position[index];
+        if (p < 0) return;
+        xs[p] = sorted[p].x;
+
+        while (p > 0 && greater(p - 1, p)) {
+            swap(p - 1, p);
+            p--;
+        }
+        while (p < size - 1 && greater(p, p + 1)) {
+            swap(p, p + 1);
+            p++;
+        }
+    }
+
+    /**
+     * Encontra a vizinha mais próxima de uma criatura indexada com a mesma regra da busca
+     * linear original: menor distância em {@code x} e, em caso de empate, a que aparece por
+     * último na lista.
+     *
+     * @param index Índice da criatura na lista.
+     * @return Índice na lista da vizinha mais próxima, ou -1 se não houver outra criatura.
+     */
+    public int nearest(int index) {
+        int p = (index >= 0 && index < listSize) ? position[index] : -1;
+        if (p < 0 || size < 2) return -1;
+        int x = xs[p];
+
+        // Entradas com o mesmo x ficam contíguas e ordenadas pelo índice na lista: à esquerda,
+        // a de maior índice é a vizinha imediata; à direita, a última do bloco com aquele x.
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+
+        if (p > 0) {
+            best = listIndex[p - 1];
+            bestDistance = x - xs[p - 1];
+        }
+        if (p < size - 1) {
+            int rightX = xs[p + 1];
+            int candidate = listIndex[lowerBound(rightX + 1) - 1];
+            best = pick(best, bestDistance, candidate, rightX - x);
+        }
+        return best;
+    }
+
+    /**
+     * Primeira posição ordenada com {@code x >= value}.
+     *
+     * @param value Coordenada procurada.
+     * @return Posição entre 0 e {@link #size()}.
+     */
+    public int lowerBound(int value) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (xs[mid] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Criatura na posição ordenada informada.
+     *
+     * @param p Posição entre 0 e {@link #size()} - 1.
+     * @return Criatura.
+     */
+    public Creature get(int p) {
+        return sorted[p];
+    }
+
+    /**
+     * Índice na lista da criatura na posição ordenada informada.
+     *
+     * @param p Posição entre 0 e {@link #size()} - 1.
+     * @return Índice na lista.
+     */
+    public int indexAt(int p) {
+        return listIndex[p];
+    }
+
+    /**
+     * Coordenada {@code x} da entrada na posição ordenada informada.
+     *
+     * @param p Posição entre 0 e {@link #size()} - 1.
+     * @return Coordenada x registrada no índice.
+     */
+    public int xAt(int p) {
+        return xs[p];
+    }
+
+    /**
+     * Posição ordenada da criatura de índice informado na lista.
+     *
+     * @param index Índice na lista.
+     * @return Posição ordenada, ou -1 se a criatura não está indexada (guardião).
+     */
+    public int positionOf(int index) {
+        return (index >= 0 && index < listSize) ? position[index] : -1;
+    }
+
+    /** @return Quantidade de criaturas indexadas. */
+    public int size() {
+        return size;
+    }
+
+    /** @return Tamanho da lista no último {@link #rebuild(List)}. */
+    public int listSize() {
+        return listSize;
+    }
+
+    /**
+     * Escolhe a candidata com menor distância e, no empate, maior índice na lista.
+     */
+    private static int pick(int best, int bestDistance, int candidate, int distance) {
+        if (best < 0 || distance < bestDistance || (distance == bestDistance && candidate > best)) {
+            return candidate;
+        }
+        return best;
+    }
+
+    /** Verifica se a entrada {@code a} deve vir depois da entrada {@code b}. */
+    private boolean greater(int a, int b) {
+        int xa = xs[a];
+        int xb = xs[b];
+        return xa > xb || (xa == xb && listIndex[a] > listIndex[b]);
+    }
+
+    /** Troca duas entradas vizinhas mantendo o mapa de posições. */
+    private void swap(int a, int b) {
+        Creature c = sorted[a];
+        sorted[a] = sorted[b];
+        sorted[b] = c;
+        int x = xs[a];
+        xs[a] = xs[b];
+        xs[b] = x;
+        int i = listIndex[a];
+        listIndex[a] = listIndex[b];
+        listIndex[b] = i;
+        position[listIndex[a]] = a;
+        position[listIndex[b]] = b;
+    }
+}
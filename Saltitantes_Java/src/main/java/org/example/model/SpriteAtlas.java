@@ -0,0 +1,85 @@
+package org.example.model;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Atlas com as formas das criaturas já rasterizadas.
+ *
+ * <p>Em vez de rasterizar um {@code fillOval}/{@code fillRect} por criatura a cada quadro,
+ * as três formas (criatura, cluster e guardião) são desenhadas uma única vez em uma imagem
+ * compatível com a tela e depois apenas copiadas com {@code drawImage}. Imagens
+ * compatíveis são gerenciadas pelo Java2D, que as mantém em memória de vídeo quando há
+ * aceleração disponível.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see CreaturesPanel
+ */
+public class SpriteAtlas {
+
+    /** Lado de cada forma, em pixels. */
+    private final int size;
+
+    /** Imagem com as três formas lado a lado. */
+    private final BufferedImage atlas;
+
+    /** Uma sub-imagem do atlas por tipo, indexada pelas constantes de {@link SimulationSnapshot}. */
+    private final Image[] sprites = new Image[3];
+
+    /**
+     * Rasteriza as formas.
+     *
+     * @param size Lado de cada forma, em pixels.
+     * @param gc   Configuração gráfica da tela, ou {@code null} para uma imagem comum.
+     */
+    public SpriteAtlas(int size, GraphicsConfiguration gc) {
+        this.size = size;
+        atlas = gc != null
+                ? gc.createCompatibleImage(size * 3, size, Transparency.BITMASK)
+                : new BufferedImage(size * 3, size, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = atlas.createGraphics();
+        g.setColor(CreaturesPanel.CREATURE_COLOR);
+        g.fillOval(0, 0, size, size);
+        g.setColor(CreaturesPanel.CLUSTER_COLOR);
+        g.fillRect(size, 0, size, size);
+        g.setColor(CreaturesPanel.GUARDIAN_COLOR);
+        g.fillRect(size * 2, 0, size, size);
+        g.dispose();
+
+        sprites[SimulationSnapshot.CREATURE] = atlas.getSubimage(0, 0, size, size);
+        sprites[SimulationSnapshot.CLUSTER] = atlas.getSubimage(size, 0, size, size);
+        sprites[SimulationSnapshot.GUARDIAN] = atlas.getSubimage(size * 2, 0, size, size);
+    }
+
+    /**
+     * Copia a forma do tipo informado para a posição dada.
+     *
+     * @param g    Objeto gráfico.
+     * @param kind Tipo ({@link SimulationSnapshot#CREATURE}, {@link SimulationSnapshot#CLUSTER}
+     *             ou {@link SimulationSnapshot#GUARDIAN}).
+     * @param x    Posição X.
+     * @param y    Posição Y.
+     */
+    public void draw(Graphics g, byte kind, int x, int y) {
+        g.drawImage(sprites[kind], x, y, null);
+    }
+
+    /**
+     * Copia a forma correspondente à criatura.
+     *
+     * @param g        Objeto gráfico.
+     * @param creature Criatura a desenhar.
+     */
+    public void draw(Graphics g, Creature creature) {
+        byte kind = creature.isGuardian ? SimulationSnapshot.GUARDIAN
+                : creature.isCluster ? SimulationSnapshot.CLUSTER : SimulationSnapshot.CREATURE;
+        draw(g, kind, creature.x, creature.y);
+    }
+
+    /** @return Lado de cada forma, em pixels. */
+    public int getSize() {
+        return size;
+    }
+}
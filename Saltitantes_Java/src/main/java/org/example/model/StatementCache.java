@@ -0,0 +1,76 @@
+package org.example.model;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache de {@link PreparedStatement}s de uma conexão.
+ *
+ * <p>Cada comando SQL é preparado (e analisado pelo SQLite) uma única vez por conexão e
+ * depois reaproveitado, apenas com os parâmetros trocados. Como as conexões do
+ * {@link SQLiteDataSource} sobrevivem às telas, o cache acompanha a conexão e não o
+ * {@link SQLite} que a emprestou. Uma conexão é usada por um único {@link SQLite} por vez,
+ * então o cache não é sincronizado.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLite
+ * @see SQLiteDataSource
+ */
+public class StatementCache implements AutoCloseable {
+
+    /** Conexão dona dos comandos. */
+    private final Connection connection;
+
+    /** Comandos já preparados, por SQL. */
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+
+    /**
+     * Cria um cache vazio para a conexão.
+     *
+     * @param connection Conexão dona dos comandos.
+     */
+    public StatementCache(Connection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Retorna o comando preparado para o SQL, preparando-o apenas na primeira vez.
+     *
+     * @param sql Comando SQL com parâmetros {@code ?}.
+     * @return Comando preparado, com os parâmetros anteriores limpos.
+     */
+    public PreparedStatement prepare(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null || statement.isClosed()) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        } else {
+            statement.clearParameters();
+        }
+        return statement;
+    }
+
+    /** @return Quantidade de comandos preparados no cache. */
+    public int size() {
+        return statements.size();
+    }
+
+    /**
+     * Fecha todos os comandos preparados. A conexão não é fechada.
+     */
+    @Override
+    public void close() {
+        for (PreparedStatement statement : statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                System.err.println("Erro ao fechar comando: " + e.getMessage());
+            }
+        }
+        statements.clear();
+    }
+}
@@ -1,8 +1,6 @@
 package org.example.model;
 
 import javax.swing.*;
-import java.awt.*;
-import java.util.Objects;
 import java.util.Vector;
 
 /**
@@ -13,7 +11,10 @@ import java.util.Vector;
  * Também fornece funcionalidades para trocar o avatar e atualizar pontuações.</p>
  *
  * <p>Os avatares são carregados a partir do diretório de recursos:
- * <code>/org/example/images/</code> e redimensionados para 100x100 pixels.</p>
+ * <code>/org/example/images/</code> e redimensionados para 100x100 pixels pelo
+ * {@link AvatarCache}, compartilhado por todos os usuários. O carregamento é feito apenas na
+ * primeira chamada de {@link #getAVATAR()}, de modo que usuários lidos do banco só para
+ * consulta não decodificam nenhuma imagem.</p>
  *
  * @author ValentinaClash
  * @version 1.0
@@ -26,7 +27,7 @@ public class User {
     /** Senha do usuário. */
     private String PASSWORD;
 
-    /** Imagem do avatar. */
+    /** Imagem do avatar, carregada no primeiro uso. */
     private ImageIcon AVATAR;
 
     /** Nome do arquivo do avatar (sem extensão). */
@@ -38,6 +39,9 @@ public class User {
     /** Total de simulações bem-sucedidas pelo usuário. */
     private int SUCCESS_SIMULATIONS;
 
+    /** Lado do avatar exibido, em pixels. */
+    public static final int AVATAR_SIZE = 100;
+
     /** Índice do avatar atual (usado para troca sequencial). */
     private static int index = 0;
 
@@ -110,8 +114,15 @@ public class User {
         return SUCCESS_SIMULATIONS;
     }
 
-    /** @return Imagem do avatar atual do usuário. */
+    /**
+     * Retorna a imagem do avatar, obtida do {@link AvatarCache} na primeira chamada.
+     *
+     * @return Imagem do avatar atual do usuário.
+     */
     public ImageIcon getAVATAR() {
+        if (this.AVATAR == null && this.AVATAR_NAME != null) {
+            this.AVATAR = new ImageIcon(AvatarCache.shared().get(AVATAR_NAME, AVATAR_SIZE));
+        }
         return this.AVATAR;
     }
 
@@ -130,16 +141,14 @@ public class User {
     }
 
     /**
-     * Define o avatar do usuário com base no nome do arquivo.
+     * Define o avatar do usuário com base no nome do arquivo. A imagem só é carregada no
+     * próximo {@link #getAVATAR()}.
      *
      * @param avatarname Nome do arquivo (sem extensão .jpeg).
      */
     public void setAvatar(String avatarname) {
         this.AVATAR_NAME = avatarname;
-        ImageIcon icon = new ImageIcon(Objects.requireNonNull(
-                getClass().getResource("/org/example/images/" + avatarname + ".jpeg")));
-        Image scaled = icon.getImage().getScaledInstance(100, 100, Image.SCALE_SMOOTH);
-        this.AVATAR = new ImageIcon(scaled);
+        this.AVATAR = null;
     }
 
     /**
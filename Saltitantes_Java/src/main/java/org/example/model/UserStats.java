@@ -0,0 +1,27 @@
+package org.example.model;
+
+/**
+ * Projeção somente leitura das estatísticas de um usuário, usada pelo ranking.
+ *
+ * <p>Diferente de {@link User}, não carrega senha nem avatar: contém apenas as colunas
+ * necessárias para listar e ordenar os usuários.</p>
+ *
+ * @param userName    Nome de usuário.
+ * @param simulations Total de simulações realizadas.
+ * @param success     Total de simulações bem-sucedidas.
+ * @param totalPoints Pontuação total acumulada.
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLite#getLeaderboard(int)
+ */
+public record UserStats(String userName, int simulations, int success, double totalPoints) {
+
+    /**
+     * Calcula a taxa de sucesso nas simulações, como em {@link User#getSuccessRate()}.
+     *
+     * @return Taxa de sucesso como valor entre 0.0 e 1.0.
+     */
+    public float successRate() {
+        return (success == 0 || simulations == 0) ? 0.0f : (float) success / simulations;
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.model;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+
+/**
+ * Fila de gravação assíncrona (write-behind) das estatísticas dos usuários.
+ *
+ * <p>{@link SQLite#editUserByUsername(String, User)} apenas enfileira uma cópia dos dados do
+ * usuário e retorna, sem esperar pelo disco. Edições do mesmo usuário são agrupadas (vale a
+ * última) e uma thread de fundo grava todas as pendentes em uma única transação, um pouco
+ * depois da primeira edição. Leituras e remoções chamam {@link #flush()} antes, de modo que
+ * sempre enxergam as edições feitas, e {@link #close()} grava tudo o que estiver pendente.
+ * A fila, as novas tentativas e a thread ficam no {@link BatchedWriter}.</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see SQLite
+ * @see SQLiteDataSource
+ */
+public class UserWriteBehind extends BatchedWriter<UserWriteBehind.Pending> {
+
+    /** Espera padrão, em milissegundos, para agrupar edições antes de gravar. */
+    public static final long DEFAULT_DELAY_MS = 100;
+
+    /** Cópia dos dados de um usuário no momento da edição. */
+    record Pending(String username, String password, String avatar, int simulations, int success,
+                   double totalPoints) {
+    }
+
+    /**
+     * Cria a fila; a thread de gravação só começa em {@link #start()}.
+     *
+     * @param dataSource  Fonte das conexões usadas na gravação.
+     * @param delayMillis Espera para agrupar edições antes de gravar.
+     */
+    public UserWriteBehind(SQLiteDataSource dataSource, long delayMillis) {
+        super(dataSource, "sqlite-write-behind", delayMillis, Integer.MAX_VALUE, DEFAULT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Enfileira a edição de um usuário, substituindo uma edição pendente do mesmo usuário.
+     *
+     * @param username   Nome do usuário a ser editado.
+     * @param editedUser Dados atuais do usuário (copiados neste momento).
+     */
+    public void enqueue(String username, User editedUser) {
+        put(username, new Pending(username, editedUser.getPassWord(), editedUser.getAvatarname(),
+                editedUser.getSIMULATIONS(), editedUser.getSUCCESS_SIMULATIONS(), editedUser.getTotalPoints()));
+    }
+
+    /**
+     * Grava um lote de edições.
+     */
+    @Override
+    protected void write(StatementCache statements, Collection<Pending> batch) throws SQLException {
+        PreparedStatement edit = statements.prepare(SQLite.SQL_EDIT);
+        for (Pending p : batch) {
+            edit.setString(1, p.password());
+            edit.setString(2, p.avatar());
+            edit.setInt(3, p.simulations());
+            edit.setInt(4, p.success());
+            edit.setDouble(5, p.totalPoints());
+            edit.setString(6, p.username());
+            edit.addBatch();
+        }
+        edit.executeBatch();
+    }
+}
@@ -0,0 +1,113 @@
+package org.example.view;
+
+import org.example.model.SQLite;
+import org.example.model.UserStats;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Modelo de tabela do ranking que carrega os usuários do banco sob demanda, por páginas.
+ *
+ * <p>A {@link javax.swing.JTable} só pede os valores das linhas visíveis; cada pedido
+ * carrega (e guarda) apenas a página que contém a linha. Uma página logo após outra já
+ * carregada é lida por chave ({@link SQLite#getLeaderboardAfter(UserStats, int)}); um salto
+ * para longe usa deslocamento ({@link SQLite#getLeaderboardPage(int, int)}).</p>
+ *
+ * @author ValentinaClash
+ * @version 1.0
+ * @see ResultView
+ * @see SQLite#getLeaderboard(int)
+ */
+public class LeaderboardTableModel extends AbstractTableModel {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Quantidade de usuários por página. */
+    public static final int PAGE_SIZE = 50;
+
+    /** Títulos das colunas. */
+    private static final String[] COLUMNS = {"#", "Usuário", "Sims", "Sucesso", "Rating", "Pontos"};
+
+    /** Banco de onde as páginas são lidas (não é serializado, assim como a conexão). */
+    private final transient SQLite bd;
+
+    /** Total de usuários no ranking. */
+    private final int rowCount;
+
+    /** Páginas já carregadas, pelo índice da página (cache, não serializado). */
+    private final transient Map<Integer, List<UserStats>> pages = new HashMap<>();
+
+    /**
+     * Cria o modelo com a primeira página já lida.
+     *
+     * @param bd        Banco de onde as demais páginas serão lidas.
+     * @param firstPage Primeira página do ranking.
+     * @param rowCount  Total de usuários no ranking.
+     */
+    public LeaderboardTableModel(SQLite bd, List<UserStats> firstPage, int rowCount) {
+        this.bd = bd;
+        this.rowCount = Math.max(rowCount, firstPage.size());
+        pages.put(0, firstPage);
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return COLUMNS.length;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        return COLUMNS[column];
+    }
+
+    @Override
+    public Object getValueAt(int row, int column) {
+        UserStats u = getRow(row);
+        if (column == 0) return row + 1;
+        if (u == null) return "";
+        return switch (column) {
+            case 1 -> u.userName();
+            case 2 -> u.simulations();
+            case 3 -> u.success();
+            case 4 -> u.successRate();
+            default -> u.totalPoints();
+        };
+    }
+
+    /**
+     * Retorna o usuário de uma linha, carregando a sua página se necessário.
+     *
+     * @param row Linha (posição no ranking, a partir de 0).
+     * @return Estatísticas do usuário, ou {@code null} se a linha não existe mais no banco.
+     */
+    public UserStats getRow(int row) {
+        int page = row / PAGE_SIZE;
+        List<UserStats> stats = pages.computeIfAbsent(page, this::loadPage);
+        int index = row % PAGE_SIZE;
+        return index < stats.size() ? stats.get(index) : null;
+    }
+
+    /** @return Quantidade de páginas carregadas. */
+    public int getLoadedPages() {
+        return pages.size();
+    }
+
+    /**
+     * Lê uma página do banco.
+     */
+    private List<UserStats> loadPage(int page) {
+        List<UserStats> previous = pages.get(page - 1);
+        List<UserStats> stats = previous != null && previous.size() == PAGE_SIZE
+                ? bd.getLeaderboardAfter(previous.getLast(), PAGE_SIZE)
+                : bd.getLeaderboardPage(page * PAGE_SIZE, PAGE_SIZE);
+        return stats == null ? List.of() : stats;
+    }
+}
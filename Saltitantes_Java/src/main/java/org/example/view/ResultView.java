@@ -2,16 +2,21 @@ package org.example.view;
 
 import org.example.model.SQLite;
 import org.example.model.User;
+import org.example.model.UserStats;
 
 import javax.swing.*;
+import javax.swing.table.DefaultTableCellRenderer;
 import java.awt.*;
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Janela gráfica responsável por exibir os resultados do usuário após uma simulação.
  *
  * <p>A `ResultView` apresenta o avatar do usuário, informações estatísticas como número
- * de simulações, vitórias e taxa de sucesso, além de um ranking de todos os usuários do sistema.</p>
+ * de simulações, vitórias, taxa de sucesso e posição no ranking, além de um ranking de todos os
+ * usuários do sistema.
+ * O ranking é uma {@link JTable} sobre o {@link LeaderboardTableModel}, que lê do banco apenas
+ * as páginas visíveis.</p>
  *
  * <p>A interface é personalizada com cores e layout manual, utilizando {@link JFrame}
  * como container principal.</p>
@@ -115,28 +120,28 @@ public class ResultView extends JFrame {
         successrateLabel.setForeground(color);
         this.add(successrateLabel);
 
-        ArrayList<User> allUsers = bd.getAllUsers();
-
-        if (allUsers != null && !allUsers.isEmpty()) {
-            JPanel listPanel = new JPanel();
-            listPanel.setLayout(new BoxLayout(listPanel, BoxLayout.Y_AXIS));
-            listPanel.setOpaque(false);
-
-            for (User u : allUsers) {
-                JLabel label = new JLabel(
-                        u.getUserName() +
-                                " | Sims: " + u.getSIMULATIONS() +
-                                " | Sucesso: " + u.getSUCCESS_SIMULATIONS() +
-                                " | Rating: " + u.getSuccessRate() +
-                                " | Pontos: " + u.getTotalPoints()
-                );
-                label.setForeground(Color.WHITE);
-                label.setAlignmentX(Component.CENTER_ALIGNMENT);
-                listPanel.add(label);
-                listPanel.add(Box.createRigidArea(new Dimension(0, 5)));
-            }
-
-            JScrollPane scrollPane = new JScrollPane(listPanel);
+        int rank = bd.getRank(user.getUserName());
+        if (rank > 0) {
+            JLabel rankLabel = new JLabel("Posição no ranking: " + rank);
+            rankLabel.setBounds(labelX, startY + spacing * 4, 300, 25);
+            rankLabel.setForeground(color);
+            this.add(rankLabel);
+        }
+
+        List<UserStats> firstPage = bd.getLeaderboard(LeaderboardTableModel.PAGE_SIZE);
+
+        if (firstPage != null && !firstPage.isEmpty()) {
+            JTable table = new JTable(new LeaderboardTableModel(bd, firstPage, bd.countUsers()));
+            table.setOpaque(false);
+            table.setForeground(Color.WHITE);
+            table.setGridColor(color);
+            table.setRowSelectionAllowed(false);
+            table.setFillsViewportHeight(true);
+            ((DefaultTableCellRenderer) table.getDefaultRenderer(Object.class)).setOpaque(false);
+            table.getColumnModel().getColumn(0).setPreferredWidth(30);
+            table.getColumnModel().getColumn(1).setPreferredWidth(110);
+
+            JScrollPane scrollPane = new JScrollPane(table);
             scrollPane.setBounds(WIDTH / 3, HEIGHT / 5, WIDTH / 2, 200);
             scrollPane.setOpaque(false);
             scrollPane.getViewport().setOpaque(false);
@@ -6,7 +6,6 @@ import org.example.model.User;
 
 import javax.swing.*;
 import java.awt.*;
-import java.util.Random;
 
 /**
  * Janela principal da aplicação responsável pela simulação das criaturas saltitantes.
@@ -49,9 +48,6 @@ public class SimulationView extends JFrame {
     /** Botão para sair ou voltar da tela de simulação. */
     private JButton btnQuit;
 
-    /** Gerador de números aleatórios utilizado para posicionar as criaturas. */
-    private Random rand = new Random();
-
     /** Usuário autenticado no sistema. */
     private User user;
 
@@ -169,14 +165,6 @@ public class SimulationView extends JFrame {
         return creaturesPanel;
     }
 
-    /**
-     * Gera um valor aleatório válido para coordenada X dentro do painel.
-     * @return posição X aleatória.
-     */
-    public int getRandomX() {
-        return rand.nextInt(WIDTH - CreaturesPanel.CREATURE_SIZE);
-    }
-
     /**
      * Retorna o botão para sair da tela de simulação.
      * @return botão "Voltar".
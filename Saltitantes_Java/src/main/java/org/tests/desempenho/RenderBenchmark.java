@@ -0,0 +1,60 @@
+package org.tests.desempenho;
+
+import org.example.model.CreaturesPanel;
+import org.example.model.User;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Benchmark de um quadro do {@link CreaturesPanel} (um tick de física seguido da pintura)
+ * com o ouro em {@code JLabel}s e com o ouro desenhado por
+ * {@link org.example.model.GoldTextRenderer}.
+ *
+ * <p>Pinta em uma {@link BufferedImage}, portanto roda sem tela
+ * ({@code -Djava.awt.headless=true}). Executar com
+ * {@code java org.tests.desempenho.RenderBenchmark [criaturas] [quadros]}.</p>
+ */
+public class RenderBenchmark {
+
+    /** Largura do painel. */
+    private static final int WIDTH = 720;
+
+    /** Altura do painel. */
+    private static final int HEIGHT = 480;
+
+    public static void main(String[] args) {
+        int creatures = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int frames = args.length > 1 ? Integer.parseInt(args[1]) : 120;
+
+        for (boolean textRendering : new boolean[]{false, true}) {
+            CreaturesPanel panel = new CreaturesPanel(WIDTH, HEIGHT, new User("bench", "bench", "dog"));
+            panel.setLayout(null);
+            panel.setSize(WIDTH, HEIGHT);
+            panel.setTextRendering(textRendering);
+            panel.engine.populate(creatures);
+
+            BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = image.createGraphics();
+
+            for (int i = 0; i < frames / 4; i++) {
+                frame(panel, g);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < frames; i++) {
+                frame(panel, g);
+            }
+            double ms = (System.nanoTime() - start) / 1e6 / frames;
+            g.dispose();
+
+            System.out.printf("%-8s %,7d criaturas: %8.2f ms/quadro (%6.1f fps)%n",
+                    textRendering ? "texto" : "JLabel", creatures, ms, 1000 / ms);
+        }
+    }
+
+    /** Um tick de física (que atualiza os rótulos, se houver) e a pintura do painel. */
+    private static void frame(CreaturesPanel panel, Graphics2D g) {
+        panel.engine.phisycsUpdate();
+        panel.paint(g);
+    }
+}
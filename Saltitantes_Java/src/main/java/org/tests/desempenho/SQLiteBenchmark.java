@@ -0,0 +1,88 @@
+package org.tests.desempenho;
+
+import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.SQLiteTuning;
+import org.example.model.User;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmark de inserções e edições de usuários por segundo no SQLite.
+ *
+ * <p>Compara a configuração original (journal DELETE, {@code synchronous=FULL}) com o perfil
+ * {@link SQLiteTuning#FAST} (WAL, {@code synchronous=NORMAL}), gravando uma linha por
+ * transação (como {@link SQLite#insertIntoUsers(User)}) e em lote, com
+ * {@link SQLite#insertUsers(java.util.Collection)} e {@link SQLite#editUsers(java.util.Collection)}.
+ * Cada cenário usa um banco novo em um diretório temporário. Executar com
+ * {@code java org.tests.desempenho.SQLiteBenchmark [linhas]}.</p>
+ *
+ * @see SQLiteTuning
+ */
+public class SQLiteBenchmark {
+
+    public static void main(String[] args) throws IOException, SQLException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 2_000;
+        Path dir = Files.createTempDirectory("sqlite-bench");
+
+        System.out.printf("%-10s %-9s %14s %14s%n", "perfil", "modo", "inserções/s", "edições/s");
+        int run = 0;
+        for (SQLiteTuning tuning : new SQLiteTuning[]{SQLiteTuning.DEFAULT, SQLiteTuning.FAST}) {
+            String name = tuning == SQLiteTuning.DEFAULT ? "padrão" : "WAL";
+            for (boolean batched : new boolean[]{false, true}) {
+                String url = "jdbc:sqlite:" + dir.resolve("bench" + (run++) + ".db");
+                double[] rates = measure(url, tuning, rows, batched);
+                System.out.printf("%-10s %-9s %14.0f %14.0f%n", name, batched ? "lote" : "por linha", rates[0], rates[1]);
+            }
+        }
+    }
+
+    /**
+     * Insere e depois edita {@code rows} usuários em um banco novo.
+     *
+     * @return Inserções e edições por segundo.
+     */
+    private static double[] measure(String url, SQLiteTuning tuning, int rows, boolean batched) throws SQLException {
+        List<User> users = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            users.add(new User("user" + i, "pw", "common", i, i / 2, i * 10.0));
+        }
+        List<User> edited = new ArrayList<>(rows);
+        for (User user : users) {
+            edited.add(new User(user.getUserName(), "pw", "common",
+                    user.getSIMULATIONS() + 1, user.getSUCCESS_SIMULATIONS(), user.getTotalPoints() + 5));
+        }
+
+        try (SQLiteDataSource dataSource = new SQLiteDataSource(url, 1, tuning)) {
+            SQLite bd = new SQLite(dataSource);
+
+            long start = System.nanoTime();
+            if (batched) {
+                bd.insertUsers(users);
+            } else {
+                for (User user : users) {
+                    bd.insertIntoUsers(user);
+                }
+            }
+            double inserts = rows / ((System.nanoTime() - start) / 1e9);
+
+            start = System.nanoTime();
+            if (batched) {
+                bd.editUsers(edited);
+            } else {
+                for (User user : edited) {
+                    bd.editUsers(List.of(user)); // uma transação por linha, como o autocommit
+                }
+            }
+            double edits = rows / ((System.nanoTime() - start) / 1e9);
+
+            bd.close();
+            return new double[]{inserts, edits};
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.tests.dominio;
+
+import org.example.model.AvatarCache;
+import org.example.model.User;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o cache compartilhado de avatares {@link AvatarCache}.
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Mesma imagem reutilizada para o mesmo avatar e tamanho</li>
+ *     <li><b>REQ-02:</b> Tamanhos diferentes são entradas diferentes, já redimensionadas</li>
+ *     <li><b>REQ-03:</b> Cache limitado, descartando a imagem usada há mais tempo</li>
+ *     <li><b>REQ-04:</b> Usuários diferentes compartilham a imagem decodificada</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see AvatarCache
+ */
+public class AvatarCacheDominioTest {
+
+    /**
+     * Verifica que o segundo pedido do mesmo avatar e tamanho não decodifica a imagem.
+     */
+    @Test
+    void sameKeyReusesImage() {
+        AvatarCache cache = new AvatarCache(4);
+        BufferedImage first = cache.get("cat", 100);
+        assertSame(first, cache.get("cat", 100));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    /**
+     * Verifica que cada tamanho tem a sua imagem, já redimensionada.
+     */
+    @Test
+    void sizesAreSeparateEntries() {
+        AvatarCache cache = new AvatarCache(4);
+        BufferedImage large = cache.get("dog", 100);
+        BufferedImage small = cache.get("dog", 32);
+        assertNotSame(large, small);
+        assertEquals(100, large.getWidth());
+        assertEquals(100, large.getHeight());
+        assertEquals(32, small.getWidth());
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Verifica que, cheio, o cache descarta a imagem usada há mais tempo.
+     */
+    @Test
+    void evictsLeastRecentlyUsed() {
+        AvatarCache cache = new AvatarCache(2);
+        BufferedImage cat = cache.get("cat", 50);
+        cache.get("dog", 50);
+        cache.get("cat", 50);   // "dog" passa a ser o menos usado
+        cache.get("lego", 50);  // descarta "dog"
+        assertEquals(2, cache.size());
+
+        assertSame(cat, cache.get("cat", 50));
+        long misses = cache.getMisses();
+        cache.get("dog", 50);
+        assertEquals(misses + 1, cache.getMisses());
+    }
+
+    /**
+     * Verifica que um avatar inexistente falha e não ocupa o cache.
+     */
+    @Test
+    void missingAvatarFails() {
+        AvatarCache cache = new AvatarCache(2);
+        assertThrows(NullPointerException.class, () -> cache.get("inexistente", 100));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Verifica que usuários com o mesmo avatar exibem a mesma imagem decodificada.
+     */
+    @Test
+    void usersShareDecodedImage() {
+        User a = new User("a", "pw", "neymar", 0, 0, 0);
+        User b = new User("b", "pw", "neymar", 0, 0, 0);
+        assertSame(a.getAVATAR().getImage(), b.getAVATAR().getImage());
+        assertSame(AvatarCache.shared().get("neymar", User.AVATAR_SIZE), a.getAVATAR().getImage());
+    }
+}
@@ -4,6 +4,7 @@ import org.example.model.*;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
 
 /**
  * Classe de testes unitários para a classe {@link CreaturesPanel}.
@@ -31,6 +33,7 @@ import static org.junit.jupiter.api.Assertions.*;
  *     <li><b>REQ-07:</b> Guardião eliminar clusters próximos</li>
  *     <li><b>REQ-08:</b> Guardião sempre deve ser a última criatura</li>
  *     <li><b>REQ-09:</b> Atualização física e lógica separadas e consistentes</li>
+ *     <li><b>REQ-10:</b> Semente e quantidade gravadas reproduzem as posições da simulação</li>
  * </ul>
  *
  * <p><b>Invariantes:</b></p>
@@ -196,7 +199,7 @@ public class CreaturesPanelDominioTest {
      */
     @Test
     void stopSimulationWithNullTimers() {
-        panel.startSimulation = true;
+        panel.engine.startSimulation = true;
         panel.updateTimer = null;
         panel.phisycsTimer = null;
         assertFalse(panel.stopSimulation(), "Parar simulação mesmo sem timers ativos");
@@ -216,7 +219,7 @@ public class CreaturesPanelDominioTest {
         creature.canMove = true;
         int oldX = creature.x;
 
-        panel.canUpdate = true;
+        panel.engine.canUpdate = true;
         panel.phisycsUpdate();
 
         assertEquals(oldX, creature.x, "Criatura não deveria ter se movido no eixo X");
@@ -269,4 +272,35 @@ public class CreaturesPanelDominioTest {
         assertNull(panel.getLast(), "Deve retornar null se a lista está vazia");
     }
 
+    /**
+     * Verifica que criaturas e guardião sorteados pelo painel são os de um motor novo criado
+     * com a semente e a quantidade de criaturas gravadas no histórico.
+     */
+    @Test
+    void seedReproducesPositions() {
+        CreaturesPanel seeded = new CreaturesPanel(width, height, new User("Whesley", "1234", "dog"));
+        seeded.setSize(width, height);
+        seeded.bd = bd;
+        for (int i = 0; i < 4; i++) {
+            seeded.addRandomCreature();
+        }
+        assertTrue(seeded.initSimulation());
+        seeded.updateTimer.stop();
+        seeded.phisycsTimer.stop();
+        seeded.stopSimulation();
+
+        ArgumentCaptor<SimulationRun> written = ArgumentCaptor.forClass(SimulationRun.class);
+        verify(bd).appendRun(written.capture());
+        SimulationRun run = written.getValue();
+        assertEquals(4, run.creatures(), "O guardião não conta como criatura da simulação");
+
+        SimulationEngine replay = new SimulationEngine(width, height, run.seed());
+        replay.populate(run.creatures());
+        replay.start(replay.randomX());
+        assertEquals(replay.Creatures.size(), seeded.Creatures.size());
+        for (int i = 0; i < replay.Creatures.size(); i++) {
+            assertEquals(replay.Creatures.get(i).x, seeded.Creatures.get(i).x, "Posição da criatura " + i);
+        }
+    }
+
 }
@@ -0,0 +1,207 @@
+package org.tests.dominio;
+
+import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.User;
+import org.example.model.UserStats;
+import org.example.view.LeaderboardTableModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o ranking paginado ({@link SQLite#getLeaderboard(int)}) e
+ * para o {@link LeaderboardTableModel}.
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Ranking ordenado pela pontuação e, no empate, pelo nome</li>
+ *     <li><b>REQ-02:</b> Páginas por chave e por deslocamento iguais ao ranking completo</li>
+ *     <li><b>REQ-03:</b> Consulta servida pelo índice do ranking</li>
+ *     <li><b>REQ-04:</b> Modelo da tabela carrega apenas as páginas pedidas</li>
+ *     <li><b>REQ-05:</b> Projeções somente leitura sem senha nem avatar</li>
+ *     <li><b>REQ-06:</b> Posição e ranking por taxa de sucesso atualizados a cada edição</li>
+ *     <li><b>REQ-07:</b> Coluna da taxa de sucesso adicionada a bancos antigos</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SQLite
+ * @see LeaderboardTableModel
+ */
+public class LeaderboardDominioTest {
+
+    /** Quantidade de usuários cadastrados. */
+    private static final int USERS = 130;
+
+    /** Diretório temporário do banco de teste. */
+    @TempDir
+    Path dir;
+
+    /** Fonte de conexões do teste. */
+    private SQLiteDataSource dataSource;
+
+    /** Banco de teste. */
+    private SQLite bd;
+
+    /** Ranking esperado, calculado em memória. */
+    private List<UserStats> expected;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new SQLiteDataSource("jdbc:sqlite:" + dir.resolve("test.db"), 2);
+        bd = new SQLite(dataSource);
+
+        List<User> users = new ArrayList<>();
+        expected = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            double points = (i * 37) % 20 * 10.0; // muitos empates
+            users.add(new User("user" + i, "pw", "common", i, i / 3, points));
+            expected.add(new UserStats("user" + i, i, i / 3, points));
+        }
+        assertEquals(USERS, bd.insertUsers(users));
+        expected.sort(Comparator.comparingDouble(UserStats::totalPoints).reversed()
+                .thenComparing(UserStats::userName));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bd.close();
+        dataSource.close();
+    }
+
+    /**
+     * Verifica que a concatenação das páginas por chave é o ranking completo.
+     */
+    @Test
+    void keysetPagesMatchFullRanking() {
+        List<UserStats> all = new ArrayList<>();
+        List<UserStats> page = bd.getLeaderboard(17);
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            page = bd.getLeaderboardAfter(page.getLast(), 17);
+        }
+        assertEquals(expected, all);
+        assertEquals(USERS, bd.countUsers());
+    }
+
+    /**
+     * Verifica que a página por deslocamento é o trecho correspondente do ranking.
+     */
+    @Test
+    void offsetPageMatchesRanking() {
+        assertEquals(expected.subList(40, 60), bd.getLeaderboardPage(40, 20));
+        assertEquals(expected.subList(120, USERS), bd.getLeaderboardPage(120, 50));
+    }
+
+    /**
+     * Verifica que o SQLite usa o índice do ranking, sem ordenar a tabela inteira.
+     */
+    @Test
+    void leaderboardUsesIndex() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        StringBuilder plan = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN SELECT username, simulations, success, totalpoints "
+                     + "FROM users WHERE totalpoints <= 50 AND (totalpoints < 50 OR username > 'x') "
+                     + "ORDER BY totalpoints DESC, username LIMIT 10")) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        } finally {
+            dataSource.release(connection);
+        }
+        assertTrue(plan.toString().contains("idx_users_leaderboard"), plan.toString());
+        assertFalse(plan.toString().contains("TEMP B-TREE"), plan.toString());
+    }
+
+    /**
+     * Verifica que o modelo só carrega as páginas das linhas pedidas.
+     */
+    @Test
+    void tableModelLoadsPagesOnDemand() {
+        LeaderboardTableModel model = new LeaderboardTableModel(
+                bd, bd.getLeaderboard(LeaderboardTableModel.PAGE_SIZE), bd.countUsers());
+        assertEquals(USERS, model.getRowCount());
+        assertEquals(1, model.getLoadedPages());
+
+        assertEquals(expected.get(0).userName(), model.getValueAt(0, 1));
+        assertEquals(expected.get(USERS - 1), model.getRow(USERS - 1));
+        assertEquals(2, model.getLoadedPages(), "Saltar para o fim não carrega as páginas do meio");
+
+        assertEquals(expected.get(60), model.getRow(60));
+        assertEquals(3, model.getLoadedPages());
+        assertEquals(61, model.getValueAt(60, 0));
+    }
+
+    /**
+     * Verifica as projeções {@link SQLite#findUserStatsByUsername(String)} e
+     * {@link SQLite#getAllUserStats()}.
+     */
+    @Test
+    void statsProjections() {
+        assertEquals(new UserStats("user7", 7, 2, 190.0), bd.findUserStatsByUsername("user7"));
+        assertNull(bd.findUserStatsByUsername("ninguem"));
+        assertEquals(expected, bd.getAllUserStats());
+    }
+
+    /**
+     * Verifica a posição no ranking e o ranking por taxa de sucesso, antes e depois de editar
+     * um usuário.
+     */
+    @Test
+    void rankAndSuccessRateFollowEdits() throws SQLException {
+        for (int i = 0; i < USERS; i += 11) {
+            UserStats u = expected.get(i);
+            assertEquals(i + 1, bd.getRank(u.userName()));
+        }
+        assertEquals(0, bd.getRank("ninguem"));
+
+        List<UserStats> byRate = new ArrayList<>(expected);
+        byRate.sort(Comparator.comparingDouble(UserStats::successRate).reversed()
+                .thenComparing(Comparator.comparingDouble(UserStats::totalPoints).reversed())
+                .thenComparing(UserStats::userName));
+        assertEquals(byRate.subList(0, 10), bd.getSuccessRateLeaderboard(10));
+
+        String last = expected.getLast().userName();
+        assertTrue(bd.editUserByUsername(last, new User(last, "pw", "common", 3, 3, 1000.0)));
+        assertEquals(1, bd.getRank(last));
+        assertEquals(2, bd.getRank(expected.getFirst().userName()));
+        assertEquals(new UserStats(last, 3, 3, 1000.0), bd.getSuccessRateLeaderboard(1).getFirst());
+    }
+
+    /**
+     * Verifica que um banco criado sem a coluna da taxa de sucesso a recebe ao ser aberto.
+     */
+    @Test
+    void legacySchemaGainsSuccessRate() throws SQLException {
+        String url = "jdbc:sqlite:" + dir.resolve("legacy.db");
+        try (Connection connection = java.sql.DriverManager.getConnection(url);
+             Statement stmt = connection.createStatement()) {
+            stmt.execute("CREATE TABLE users (id INTEGER PRIMARY KEY AUTOINCREMENT, "
+                    + "username TEXT NOT NULL UNIQUE, password TEXT NOT NULL, avatar TEXT, "
+                    + "simulations INTEGER, success INTEGER,totalpoints DOUBLE)");
+            stmt.execute("INSERT INTO users(username, password, avatar, simulations, success, totalpoints) "
+                    + "VALUES('antigo', 'pw', 'common', 4, 1, 10.0)");
+        }
+        try (SQLiteDataSource legacy = new SQLiteDataSource(url, 1)) {
+            SQLite legacyBd = new SQLite(legacy);
+            assertEquals(new UserStats("antigo", 4, 1, 10.0), legacyBd.getSuccessRateLeaderboard(5).getFirst());
+            assertEquals(1, legacyBd.getRank("antigo"));
+            legacyBd.close();
+        }
+    }
+}
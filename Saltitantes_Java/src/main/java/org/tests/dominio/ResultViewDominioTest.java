@@ -2,6 +2,7 @@ package org.tests.dominio;
 
 import org.example.model.SQLite;
 import org.example.model.User;
+import org.example.model.UserStats;
 import org.example.view.ResultView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -42,16 +43,11 @@ class ResultViewDominioTest {
         Mockito.when(mockUser.getSuccessRate()).thenReturn((float) 3 / 5);
         Mockito.when(mockUser.getUserName()).thenReturn("common");
 
-        ArrayList<User> users = new ArrayList<>();
-        User u1 = Mockito.mock(User.class);
-        Mockito.when(u1.getUserName()).thenReturn("User1");
-        Mockito.when(u1.getSIMULATIONS()).thenReturn(10);
-        Mockito.when(u1.getSUCCESS_SIMULATIONS()).thenReturn(5);
-        Mockito.when(u1.getSuccessRate()).thenReturn((float) 5 / 10);
-        Mockito.when(u1.getTotalPoints()).thenReturn(100.0);
-        users.add(u1);
+        ArrayList<UserStats> users = new ArrayList<>();
+        users.add(new UserStats("User1", 10, 5, 100.0));
 
-        Mockito.when(mockDB.getAllUsers()).thenReturn(users);
+        Mockito.when(mockDB.getLeaderboard(Mockito.anyInt())).thenReturn(users);
+        Mockito.when(mockDB.countUsers()).thenReturn(users.size());
     }
 
     /**
@@ -104,7 +100,7 @@ class ResultViewDominioTest {
      */
     @Test
     void testNaoCriaRankingComListaNula() {
-        Mockito.when(mockDB.getAllUsers()).thenReturn(null);
+        Mockito.when(mockDB.getLeaderboard(Mockito.anyInt())).thenReturn(null);
         ResultView view = new ResultView(mockUser, mockDB);
         Component[] components = view.getContentPane().getComponents();
         boolean rankingEncontrado = false;
@@ -123,7 +119,8 @@ class ResultViewDominioTest {
      */
     @Test
     void testNaoCriaRankingComListaVazia() {
-        Mockito.when(mockDB.getAllUsers()).thenReturn(new ArrayList<>());
+        Mockito.when(mockDB.getLeaderboard(Mockito.anyInt())).thenReturn(new ArrayList<>());
+        Mockito.when(mockDB.countUsers()).thenReturn(0);
         ResultView view = new ResultView(mockUser, mockDB);
         Component[] components = view.getContentPane().getComponents();
         boolean rankingEncontrado = false;
@@ -0,0 +1,199 @@
+package org.tests.dominio;
+
+import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.SQLiteTuning;
+import org.example.model.StatementCache;
+import org.example.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a classe {@link SQLiteDataSource}.
+ *
+ * <p>Valida que as conexões emprestadas pelo {@link SQLite} voltam ao pool e são
+ * reaproveitadas nas telas seguintes, e que o esquema é criado pela própria fonte.</p>
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Esquema criado uma única vez, na criação da fonte</li>
+ *     <li><b>REQ-02:</b> Conexões devolvidas em {@link SQLite#close()} e reaproveitadas, sem uso
+ *     posterior pela instância fechada</li>
+ *     <li><b>REQ-03:</b> Pool limitado e fechamento da fonte</li>
+ *     <li><b>REQ-04:</b> Comandos preparados uma única vez por conexão</li>
+ *     <li><b>REQ-05:</b> Perfil de ajuste (WAL) e gravação em lote em uma transação</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SQLiteDataSource
+ * @see SQLite
+ */
+public class SQLiteDataSourceDominioTest {
+
+    /** Diretório temporário do banco de teste. */
+    @TempDir
+    Path dir;
+
+    /** Fonte de conexões testada. */
+    private SQLiteDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new SQLiteDataSource("jdbc:sqlite:" + dir.resolve("test.db"), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    /**
+     * Verifica que o banco já tem a tabela de usuários sem que o {@link SQLite} a crie.
+     */
+    @Test
+    void schemaCreatedByDataSource() throws SQLException {
+        SQLite bd = new SQLite(dataSource);
+        assertTrue(bd.insertIntoUsers(new User("ana", "123", "common")));
+        assertEquals("ana", bd.findUserByUsername("ana").getUserName());
+        bd.close();
+    }
+
+    /**
+     * Verifica que a conexão devolvida por uma tela é a mesma emprestada à tela seguinte.
+     */
+    @Test
+    void closeReturnsConnectionToPool() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.release(first);
+        assertEquals(1, dataSource.getIdleCount());
+
+        SQLite login = new SQLite(dataSource);
+        assertEquals(0, dataSource.getIdleCount(), "A conexão ociosa deve ser emprestada");
+        login.close();
+        login.close(); // fechar duas vezes não devolve a conexão duas vezes
+        assertEquals(1, dataSource.getIdleCount());
+
+        Connection next = dataSource.getConnection();
+        assertSame(first, next, "A conexão deve ser reaproveitada");
+        assertFalse(next.isClosed());
+        dataSource.release(next);
+    }
+
+    /**
+     * Verifica que uma instância fechada não usa mais a conexão devolvida, que pode já estar
+     * emprestada a outra tela.
+     */
+    @Test
+    void closedInstanceRejectsOperations() throws SQLException {
+        SQLite closed = new SQLite(dataSource);
+        closed.close();
+        SQLite next = new SQLite(dataSource);
+
+        assertFalse(closed.insertIntoUsers(new User("ana", "123", "common")));
+        assertFalse(closed.editUserByUsername("ana", new User("ana", "123", "common")));
+        assertEquals(-1, closed.insertUsers(List.of(new User("bia", "123", "common"))));
+        assertNull(closed.getLeaderboard(10));
+        assertThrows(SQLException.class, () -> closed.findUserByUsername("ana"));
+
+        assertEquals(0, next.countUsers(), "Nenhuma operação da instância fechada deve ter efeito");
+        next.close();
+    }
+
+    /**
+     * Verifica que o pool não guarda mais conexões ociosas que o limite e que fechar a fonte
+     * fecha as conexões.
+     */
+    @Test
+    void poolIsBoundedAndClosable() throws SQLException {
+        Connection a = dataSource.getConnection();
+        Connection b = dataSource.getConnection();
+        Connection c = dataSource.getConnection();
+        dataSource.release(a);
+        dataSource.release(b);
+        dataSource.release(c);
+
+        assertEquals(2, dataSource.getIdleCount());
+        assertTrue(c.isClosed(), "A conexão excedente deve ser fechada");
+
+        dataSource.close();
+        assertTrue(a.isClosed());
+        assertTrue(b.isClosed());
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+    }
+
+    /**
+     * Verifica que o mesmo comando é reaproveitado entre chamadas e entre telas que
+     * emprestam a mesma conexão, e que é fechado junto com a conexão.
+     */
+    @Test
+    void statementsPreparedOncePerConnection() throws SQLException {
+        SQLite first = new SQLite(dataSource);
+        first.insertIntoUsers(new User("ana", "123", "common"));
+        User ana = first.findUserByUsername("ana");
+        ana.addPoints(10);
+        ana.setPoints(0); // acumula os 10 pontos no total
+        assertTrue(first.editUserByUsername("ana", ana));
+        assertTrue(first.editUserByUsername("ana", ana));
+        first.close();
+        dataSource.flush();
+
+        Connection connection = dataSource.getConnection();
+        StatementCache cache = dataSource.statements(connection);
+        assertEquals(3, cache.size(), "INSERT, SELECT e UPDATE preparados uma vez cada");
+        PreparedStatement update = cache.prepare(
+                "UPDATE users SET password = ?, avatar = ?, simulations = ?, success = ?, totalpoints = ? WHERE username = ?");
+        assertEquals(3, cache.size());
+        dataSource.release(connection);
+
+        SQLite second = new SQLite(dataSource);
+        assertEquals(10, second.findUserByUsername("ana").getTotalPoints());
+        assertNull(second.findUserByUsername("bia"));
+        second.close();
+
+        dataSource.close();
+        assertTrue(update.isClosed(), "Os comandos são fechados com a conexão");
+    }
+
+    /**
+     * Verifica que o perfil {@link SQLiteTuning#FAST} liga o WAL e que as APIs em lote
+     * gravam tudo, ou nada quando uma das linhas falha.
+     */
+    @Test
+    void fastTuningAndBatches() throws SQLException {
+        try (SQLiteDataSource fast = new SQLiteDataSource("jdbc:sqlite:" + dir.resolve("fast.db"), 1, SQLiteTuning.FAST)) {
+            Connection connection = fast.getConnection();
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery("PRAGMA journal_mode")) {
+                assertTrue(rs.next());
+                assertEquals("wal", rs.getString(1).toLowerCase());
+            }
+            fast.release(connection);
+
+            SQLite bd = new SQLite(fast);
+            assertEquals(2, bd.insertUsers(List.of(new User("ana", "1", "common"), new User("bia", "2", "common"))));
+            assertEquals(-1, bd.insertUsers(List.of(new User("caio", "3", "common"), new User("ana", "4", "common"))),
+                    "Nome repetido deve falhar o lote inteiro");
+            assertNull(bd.findUserByUsername("caio"), "A transação do lote com falha deve ser desfeita");
+
+            assertEquals(2, bd.editUsers(List.of(new User("ana", "1", "common", 5, 1, 0),
+                    new User("bia", "2", "common", 9, 3, 0))));
+            assertEquals(5, bd.findUserByUsername("ana").getSIMULATIONS());
+            assertEquals(3, bd.findUserByUsername("bia").getSUCCESS_SIMULATIONS());
+            bd.close();
+        }
+    }
+}
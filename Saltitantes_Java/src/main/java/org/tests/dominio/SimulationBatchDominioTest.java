@@ -0,0 +1,99 @@
+package org.tests.dominio;
+
+import org.example.model.SimulationBatch;
+import org.example.model.SimulationEngine;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a classe {@link SimulationBatch}.
+ *
+ * <p>Valida que o executor em lote roda simulações completas sem interface gráfica e que
+ * o resultado de cada simulação depende apenas da sua semente, e não do paralelismo.</p>
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Executar N simulações independentes e semeadas</li>
+ *     <li><b>REQ-02:</b> Reportar vitórias, pontos e interações por simulação</li>
+ *     <li><b>REQ-03:</b> Pontos e interações recomeçam a cada simulação do mesmo motor</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SimulationBatch
+ * @see SimulationEngine
+ */
+public class SimulationBatchDominioTest {
+
+    /** Largura padrão da simulação. */
+    private final int width = 720;
+
+    /** Altura padrão da simulação. */
+    private final int height = 480;
+
+    /**
+     * Verifica que o lote executa todas as simulações e que as estatísticas são coerentes.
+     */
+    @Test
+    void runBatch() {
+        SimulationBatch batch = new SimulationBatch(width, height, 6, 7L);
+        SimulationBatch.Result result = batch.run(50, 4);
+
+        assertEquals(50, result.runs(), "Todas as simulações devem ser executadas");
+        assertTrue(result.winRate() >= 0.0 && result.winRate() <= 1.0, "Taxa de vitória deve estar entre 0 e 1");
+        assertTrue(result.meanInteractions() > 0, "Toda simulação deve ter ao menos uma interação");
+        assertTrue(result.pointsPercentile(100) >= result.pointsPercentile(50),
+                "O máximo deve ser maior ou igual à mediana");
+    }
+
+    /**
+     * Verifica que o resultado de cada simulação não depende do número de threads.
+     */
+    @Test
+    void deterministicAcrossParallelism() {
+        SimulationBatch batch = new SimulationBatch(width, height, 8, 123L);
+        SimulationBatch.Result sequential = batch.run(40, 1);
+        SimulationBatch.Result parallel = batch.run(40, 4);
+
+        assertArrayEquals(sequential.points(), parallel.points(), "Pontos devem ser iguais para as mesmas sementes");
+        assertArrayEquals(sequential.interactions(), parallel.interactions(),
+                "Interações devem ser iguais para as mesmas sementes");
+    }
+
+    /**
+     * Verifica que a simulação individual termina e respeita o critério de vitória.
+     */
+    @Test
+    void runOneFinishes() {
+        SimulationBatch batch = new SimulationBatch(width, height, 5, 1L);
+        SimulationEngine engine = batch.runOne(0);
+
+        assertFalse(engine.startSimulation, "A simulação deve estar encerrada ao fim do lote");
+        assertEquals(engine.getPoints() >= SimulationEngine.GOAL_POINTS, engine.isVictory(),
+                "Vitória deve corresponder a atingir a pontuação objetivo");
+    }
+
+    /**
+     * Verifica que reiniciar um motor já usado começa a contagem de pontos e interações do zero.
+     */
+    @Test
+    void countersResetOnRestart() {
+        SimulationEngine engine = new SimulationBatch(width, height, 5, 1L).runOne(0);
+        assertTrue(engine.getInteractions() > 0);
+        engine.stop();
+
+        assertTrue(engine.start(engine.randomX()));
+        assertEquals(0, engine.getInteractions(), "As interações não devem somar as da simulação anterior");
+        assertEquals(0.0, engine.getPoints(), "A pontuação não deve somar a da simulação anterior");
+    }
+
+    /**
+     * Verifica que lotes com menos de duas criaturas são rejeitados.
+     */
+    @Test
+    void rejectsTooFewCreatures() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationBatch(width, height, 1, 0L));
+    }
+}
@@ -0,0 +1,107 @@
+package org.tests.dominio;
+
+import org.example.model.SimulationEngine;
+import org.example.model.SimulationLoop;
+import org.example.model.SimulationSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Rectangle;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a classe {@link SimulationLoop}.
+ *
+ * <p>Valida que o laço de passo fixo avança o motor fora da EDT, publica retratos
+ * imutáveis e chega ao mesmo resultado que a execução direta do motor.</p>
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Física determinística independente da taxa de pintura</li>
+ *     <li><b>REQ-02:</b> Execução sem limite de frequência quando não há tela</li>
+ *     <li><b>REQ-03:</b> Retratos publicados para a pintura</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SimulationLoop
+ * @see SimulationSnapshot
+ */
+public class SimulationLoopDominioTest {
+
+    /**
+     * Cria um motor semeado e já iniciado.
+     */
+    private SimulationEngine startedEngine(long seed) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.populate(6);
+        engine.start(engine.randomX());
+        return engine;
+    }
+
+    /**
+     * Verifica que o laço sem limite termina no mesmo estado que {@link SimulationEngine#run()}.
+     */
+    @Test
+    void unboundedMatchesDirectRun() throws InterruptedException {
+        SimulationEngine direct = startedEngine(9L);
+        direct.run();
+
+        SimulationEngine looped = startedEngine(9L);
+        CountDownLatch finished = new CountDownLatch(1);
+        SimulationLoop loop = new SimulationLoop(looped, 0, null, finished::countDown);
+        loop.start();
+
+        assertTrue(finished.await(10, TimeUnit.SECONDS), "A simulação deveria terminar");
+        assertFalse(loop.isRunning(), "O laço deve parar ao fim da simulação");
+
+        SimulationSnapshot snapshot = loop.getSnapshot();
+        assertTrue(snapshot.finished(), "O último retrato deve indicar o término");
+        assertEquals(direct.getTicks(), snapshot.tick(), "Mesma quantidade de ticks da execução direta");
+        assertEquals(direct.getPoints(), looped.getPoints(), "Mesma pontuação da execução direta");
+        assertEquals(direct.Creatures.size(), snapshot.size());
+    }
+
+    /**
+     * Verifica que o laço de passo fixo avança ticks e publica retratos enquanto roda.
+     */
+    @Test
+    void fixedRateAdvancesAndPublishes() throws InterruptedException {
+        SimulationEngine engine = startedEngine(3L);
+        CountDownLatch frames = new CountDownLatch(5);
+        SimulationLoop loop = new SimulationLoop(engine, 1000, frames::countDown, null);
+        loop.start();
+
+        assertTrue(frames.await(5, TimeUnit.SECONDS), "O laço deveria publicar retratos");
+        loop.stop();
+
+        assertFalse(loop.isRunning());
+        assertTrue(loop.getSnapshot().tick() > 0, "O retrato deve refletir ticks executados");
+        assertEquals(engine.Creatures.size(), loop.getSnapshot().size());
+    }
+
+    /**
+     * Verifica que a região suja cobre todas as criaturas do último quadro e do anterior.
+     */
+    @Test
+    void dirtyBoundsCoverPreviousAndCurrentFrame() throws InterruptedException {
+        SimulationEngine engine = startedEngine(5L);
+        CountDownLatch finished = new CountDownLatch(1);
+        SimulationLoop loop = new SimulationLoop(engine, 0, null, finished::countDown);
+        assertNull(loop.getDirtyBounds(), "Sem quadros, a tela inteira deve ser repintada");
+
+        loop.start();
+        assertTrue(finished.await(10, TimeUnit.SECONDS), "A simulação deveria terminar");
+        SimulationSnapshot frame = loop.getSnapshot();
+        Rectangle dirty = loop.getDirtyBounds();
+        assertNotNull(dirty, "Após vários quadros a região suja deve ser conhecida");
+        for (int i = 0; i < frame.size(); i++) {
+            assertTrue(dirty.contains(frame.x(i), frame.y(i) - 20, SimulationEngine.CREATURE_SIZE,
+                    SimulationEngine.CREATURE_SIZE + 20), "A criatura " + i + " deve estar na região suja");
+        }
+        assertTrue(dirty.contains(frame.bounds()));
+    }
+}
@@ -0,0 +1,175 @@
+package org.tests.dominio;
+
+import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.SimulationBatch;
+import org.example.model.SimulationRun;
+import org.example.model.SimulationRunStats;
+import org.example.model.SimulationRunWriter;
+import org.example.model.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o histórico de simulações ({@link SQLite#appendRun(SimulationRun)})
+ * e para o {@link SimulationRunWriter}.
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Resultados acumulados e gravados em lote</li>
+ *     <li><b>REQ-02:</b> Histórico do usuário da simulação mais recente para a mais antiga</li>
+ *     <li><b>REQ-03:</b> Estatísticas agregadas do histórico</li>
+ *     <li><b>REQ-04:</b> Consulta do histórico servida pelo índice</li>
+ *     <li><b>REQ-05:</b> Execução em lote grava uma linha por simulação</li>
+ *     <li><b>REQ-06:</b> Remover o usuário remove o seu histórico</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SimulationRunWriter
+ * @see SQLite#getRunHistory(String, int)
+ */
+public class SimulationRunDominioTest {
+
+    /** Diretório temporário do banco de teste. */
+    @TempDir
+    Path dir;
+
+    /** Fonte de conexões do teste. */
+    private SQLiteDataSource dataSource;
+
+    /** Banco de teste. */
+    private SQLite bd;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new SQLiteDataSource("jdbc:sqlite:" + dir.resolve("test.db"), 2);
+        bd = new SQLite(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bd.close();
+        dataSource.close();
+    }
+
+    /**
+     * Cria o resultado {@code i} de um usuário.
+     */
+    private static SimulationRun run(String user, int i) {
+        return new SimulationRun(user, i, 5 + i % 3, 10 + i, i * 100.0, i * 100.0 >= 500, i);
+    }
+
+    /**
+     * Verifica que muitos resultados acrescentados são gravados em poucos lotes, sem esperar
+     * pelo disco a cada um.
+     */
+    @Test
+    void appendsAreBatched() throws InterruptedException, SQLException {
+        SimulationRunWriter writer = new SimulationRunWriter(dataSource, 10_000, 100);
+        writer.start();
+        for (int i = 0; i < 250; i++) {
+            writer.append(run("lote", i));
+        }
+        long deadline = System.currentTimeMillis() + 5_000;
+        while ((writer.getPendingCount() >= 100 || writer.getWrittenRows() + writer.getPendingCount() < 250)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(writer.getPendingCount() < 100, "Lotes cheios são gravados sem esperar o prazo");
+        assertEquals(250, writer.getWrittenRows() + writer.getPendingCount());
+
+        writer.close();
+        assertEquals(250, writer.getWrittenRows());
+        assertEquals(250, bd.getRunStats("lote").runs());
+    }
+
+    /**
+     * Verifica o histórico, as estatísticas e que uma leitura enxerga os resultados ainda
+     * não gravados.
+     */
+    @Test
+    void historyAndStats() {
+        for (int i = 1; i <= 8; i++) {
+            assertTrue(bd.appendRun(run("ana", i)));
+            assertTrue(bd.appendRun(run("bia", i * 2)));
+        }
+
+        List<SimulationRun> history = bd.getRunHistory("ana", 3);
+        assertEquals(List.of(run("ana", 8), run("ana", 7), run("ana", 6)), history);
+
+        SimulationRunStats stats = bd.getRunStats("ana");
+        assertEquals(8, stats.runs());
+        assertEquals(4, stats.wins());
+        assertEquals(450.0, stats.meanPoints(), 1e-9);
+        assertEquals(800.0, stats.bestPoints(), 1e-9);
+        assertEquals(0.5, stats.winRate(), 1e-9);
+
+        assertEquals(new SimulationRunStats(0, 0, 0, 0, 0), bd.getRunStats("ninguem"));
+    }
+
+    /**
+     * Verifica que o histórico de um usuário é lido pelo índice, sem ordenar.
+     */
+    @Test
+    void historyUsesIndex() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        StringBuilder plan = new StringBuilder();
+        try (Statement stmt = connection.createStatement();
+             ResultSet rs = stmt.executeQuery("EXPLAIN QUERY PLAN SELECT * FROM simulation_runs "
+                     + "WHERE username = 'ana' ORDER BY id DESC LIMIT 10")) {
+            while (rs.next()) {
+                plan.append(rs.getString("detail")).append('\n');
+            }
+        } finally {
+            dataSource.release(connection);
+        }
+        assertTrue(plan.toString().contains("idx_simulation_runs_user"), plan.toString());
+        assertFalse(plan.toString().contains("TEMP B-TREE"), plan.toString());
+    }
+
+    /**
+     * Verifica que uma execução em lote grava uma linha por simulação, com a semente de cada uma.
+     */
+    @Test
+    void batchRunIsRecorded() {
+        SimulationBatch batch = new SimulationBatch(720, 480, 4, 7L);
+        SimulationBatch.Result result = batch.run(20, 4, "lote", dataSource.getRunWriter());
+
+        SimulationRunStats stats = bd.getRunStats("lote");
+        assertEquals(20, stats.runs());
+        assertEquals(result.wins(), stats.wins());
+        assertEquals(result.meanPoints(), stats.meanPoints(), 1e-9);
+
+        List<SimulationRun> history = bd.getRunHistory("lote", 20);
+        assertEquals(20, history.stream().mapToLong(SimulationRun::seed).distinct().count());
+        for (SimulationRun run : history) {
+            assertEquals(batch.runOne((int) (run.seed() - 7L)).getPoints(), run.points());
+        }
+    }
+
+    /**
+     * Verifica que remover o usuário remove também o seu histórico.
+     */
+    @Test
+    void deletingUserDeletesHistory() throws SQLException {
+        assertTrue(bd.insertIntoUsers(new User("ana", "pw", "common")));
+        bd.appendRun(run("ana", 1));
+        bd.appendRun(run("bia", 1));
+        bd.deleteUserByUsername("ana");
+        assertEquals(0, bd.getRunStats("ana").runs());
+        assertEquals(1, bd.getRunStats("bia").runs());
+    }
+}
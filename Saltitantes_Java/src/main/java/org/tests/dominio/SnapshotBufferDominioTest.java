@@ -0,0 +1,100 @@
+package org.tests.dominio;
+
+import org.example.model.SimulationEngine;
+import org.example.model.SimulationSnapshot;
+import org.example.model.SnapshotBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a classe {@link SnapshotBuffer}.
+ *
+ * <p>Valida que o buffer triplo entrega sempre o quadro mais recente, reaproveita os
+ * quadros e nunca expõe ao leitor um quadro que está sendo escrito.</p>
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Leitor recebe o último quadro publicado</li>
+ *     <li><b>REQ-02:</b> Troca sem travas entre uma thread escritora e uma leitora</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see SnapshotBuffer
+ * @see SimulationSnapshot
+ */
+public class SnapshotBufferDominioTest {
+
+    /**
+     * Cria um motor semeado e já iniciado.
+     */
+    private SimulationEngine startedEngine() {
+        SimulationEngine engine = new SimulationEngine(720, 480, 5L);
+        engine.populate(6);
+        engine.start(engine.randomX());
+        return engine;
+    }
+
+    /**
+     * Verifica a sequência publicar/obter com um único thread.
+     */
+    @Test
+    void acquireReturnsLatest() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        SimulationEngine engine = startedEngine();
+
+        assertSame(SimulationSnapshot.EMPTY, buffer.acquire(), "Sem publicação, o quadro deve ser vazio");
+
+        engine.step();
+        buffer.publish(engine);
+        engine.step();
+        buffer.publish(engine);
+
+        SimulationSnapshot frame = buffer.acquire();
+        assertEquals(2, frame.tick(), "Deve receber o quadro mais recente");
+        assertEquals(engine.Creatures.size(), frame.size());
+        assertEquals(engine.Creatures.getFirst().x, frame.x(0));
+        assertSame(frame, buffer.acquire(), "Sem nova publicação, o mesmo quadro é mantido");
+    }
+
+    /**
+     * Verifica, com escritor e leitor concorrentes, que os ticks lidos nunca regridem e que
+     * cada quadro lido é consistente (não foi sobrescrito durante a leitura).
+     */
+    @Test
+    void concurrentWriterNeverTearsReaderFrame() throws InterruptedException {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        SimulationEngine engine = startedEngine();
+        AtomicBoolean done = new AtomicBoolean(false);
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 20000; i++) {
+                synchronized (engine.Creatures) {
+                    engine.step();
+                    buffer.publish(engine);
+                }
+            }
+            done.set(true);
+        });
+        writer.start();
+
+        long lastTick = -1;
+        while (!done.get()) {
+            SimulationSnapshot frame = buffer.acquire();
+            long tick = frame.tick();
+            assertTrue(tick >= lastTick, "Os ticks lidos não podem regredir");
+            int size = frame.size();
+            for (int i = 0; i < size; i++) {
+                frame.x(i);
+            }
+            assertEquals(tick, frame.tick(), "O quadro em leitura não pode ser sobrescrito");
+            lastTick = tick;
+        }
+        writer.join();
+        assertEquals(engine.getTicks(), buffer.acquire().tick(), "O último quadro deve ser entregue");
+    }
+}
@@ -0,0 +1,54 @@
+package org.tests.dominio;
+
+import org.example.model.User;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para o carregamento do avatar da classe {@link User}.
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Avatar carregado apenas quando exibido</li>
+ *     <li><b>REQ-02:</b> Troca de avatar recarrega a imagem</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see User
+ */
+public class UserDominioTest {
+
+    /**
+     * Verifica que criar o usuário não lê a imagem: um avatar inexistente só falha quando
+     * a imagem é pedida.
+     */
+    @Test
+    void avatarLoadedOnlyWhenRequested() {
+        User user = new User("ana", "123", "inexistente", 3, 1, 10.0);
+        assertEquals("inexistente", user.getAvatarname());
+        assertEquals(3, user.getSIMULATIONS());
+        assertThrows(NullPointerException.class, user::getAVATAR);
+    }
+
+    /**
+     * Verifica que a imagem é carregada uma vez e trocada junto com o nome do avatar.
+     */
+    @Test
+    void avatarCachedUntilChanged() {
+        User user = new User("ana", "123", "common");
+        ImageIcon first = user.getAVATAR();
+        assertNotNull(first);
+        assertEquals(100, first.getIconWidth());
+        assertSame(first, user.getAVATAR());
+
+        user.setAvatar("cat");
+        ImageIcon second = user.getAVATAR();
+        assertNotSame(first, second);
+        assertEquals("cat", user.getAvatarname());
+    }
+}
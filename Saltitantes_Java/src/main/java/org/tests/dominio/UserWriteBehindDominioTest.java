@@ -0,0 +1,167 @@
+package org.tests.dominio;
+
+import org.example.model.BatchedWriter;
+import org.example.model.SQLite;
+import org.example.model.SQLiteDataSource;
+import org.example.model.User;
+import org.example.model.UserWriteBehind;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Classe de testes unitários para a classe {@link UserWriteBehind}.
+ *
+ * <p>Valida que as edições de usuários são agrupadas por nome, gravadas em lote, vistas
+ * pelas leituras seguintes e não se perdem ao fechar a fonte de dados.</p>
+ *
+ * <p><b>Requisitos cobertos:</b></p>
+ * <ul>
+ *     <li><b>REQ-01:</b> Edições do mesmo usuário agrupadas (vale a última)</li>
+ *     <li><b>REQ-02:</b> Leituras enxergam as edições pendentes</li>
+ *     <li><b>REQ-03:</b> Edições pendentes gravadas ao fechar a fonte</li>
+ *     <li><b>REQ-04:</b> Thread de fundo iniciada apenas por {@code start()}</li>
+ *     <li><b>REQ-05:</b> Falhas relatadas por {@code flush()} e lote descartado após o limite de tentativas</li>
+ * </ul>
+ *
+ * <p><b>Autor:</b> ValentinaClash</p>
+ * <p><b>Versão:</b> 1.0</p>
+ *
+ * @see UserWriteBehind
+ * @see SQLite
+ */
+public class UserWriteBehindDominioTest {
+
+    /** Diretório temporário do banco de teste. */
+    @TempDir
+    Path dir;
+
+    /** URL do banco de teste. */
+    private String url;
+
+    /** Fonte de conexões do teste. */
+    private SQLiteDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:sqlite:" + dir.resolve("test.db");
+        dataSource = new SQLiteDataSource(url, 2);
+        SQLite bd = new SQLite(dataSource);
+        bd.insertIntoUsers(new User("ana", "123", "common"));
+        bd.insertIntoUsers(new User("bia", "456", "common"));
+        bd.close();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    /**
+     * Cria um usuário com os totais de simulações informados.
+     */
+    private User user(String name, int simulations) {
+        return new User(name, "123", "common", simulations, 0, 0);
+    }
+
+    /**
+     * Verifica que várias edições do mesmo usuário viram uma única linha gravada com os
+     * dados da última.
+     */
+    @Test
+    void editsCoalescePerUser() throws SQLException {
+        UserWriteBehind queue = new UserWriteBehind(dataSource, 60_000);
+        for (int i = 1; i <= 100; i++) {
+            queue.enqueue("ana", user("ana", i));
+        }
+        queue.enqueue("bia", user("bia", 7));
+        assertEquals(2, queue.getPendingCount());
+
+        queue.flush();
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(2, queue.getWrittenRows(), "Uma linha por usuário");
+
+        SQLite bd = new SQLite(dataSource);
+        assertEquals(100, bd.findUserByUsername("ana").getSIMULATIONS());
+        assertEquals(7, bd.findUserByUsername("bia").getSIMULATIONS());
+        bd.close();
+        queue.close();
+    }
+
+    /**
+     * Verifica que a edição retorna sem gravar e que a leitura seguinte já a enxerga.
+     */
+    @Test
+    void readsSeePendingEdits() throws SQLException {
+        SQLite bd = new SQLite(dataSource);
+        assertTrue(bd.editUserByUsername("ana", user("ana", 3)));
+        assertEquals(3, bd.findUserByUsername("ana").getSIMULATIONS());
+        assertEquals(0, dataSource.getWriteBehind().getPendingCount());
+        bd.close();
+    }
+
+    /**
+     * Verifica que fechar a fonte grava as edições pendentes.
+     */
+    @Test
+    void closeFlushesPendingEdits() throws SQLException {
+        SQLite bd = new SQLite(dataSource);
+        bd.editUserByUsername("bia", user("bia", 42));
+        bd.close();
+        dataSource.close();
+
+        try (SQLiteDataSource reopened = new SQLiteDataSource(url, 1)) {
+            SQLite check = new SQLite(reopened);
+            assertEquals(42, check.findUserByUsername("bia").getSIMULATIONS());
+            check.close();
+        }
+    }
+
+    /**
+     * Verifica que a fila só grava sozinha depois de {@code start()}.
+     */
+    @Test
+    void backgroundWriteStartsExplicitly() throws SQLException, InterruptedException {
+        UserWriteBehind queue = new UserWriteBehind(dataSource, 10);
+        queue.enqueue("ana", user("ana", 5));
+        Thread.sleep(100);
+        assertEquals(1, queue.getPendingCount(), "Sem start() nada é gravado em segundo plano");
+
+        queue.start();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (queue.getWrittenRows() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, queue.getWrittenRows());
+        assertEquals(0, queue.getPendingCount());
+        queue.close();
+    }
+
+    /**
+     * Verifica que uma gravação que falha é relatada por {@code flush()}, mantém a edição na
+     * fila e, no limite de tentativas, a descarta em vez de tentar para sempre.
+     */
+    @Test
+    void failuresAreReportedAndBounded() throws SQLException {
+        UserWriteBehind queue = new UserWriteBehind(dataSource, 60_000);
+        queue.enqueue("ana", user("ana", 9));
+        dataSource.close(); // as próximas conexões falham
+
+        for (int i = 1; i < BatchedWriter.DEFAULT_MAX_ATTEMPTS; i++) {
+            assertThrows(SQLException.class, queue::flush);
+            assertEquals(1, queue.getPendingCount(), "A edição volta para a fila");
+        }
+        assertThrows(SQLException.class, queue::flush);
+        assertEquals(0, queue.getPendingCount());
+        assertEquals(1, queue.getDiscardedRows());
+
+        queue.flush(); // a falha já foi relatada
+        queue.close();
+    }
+}
@@ -91,7 +91,7 @@ public class CreaturesPanelDubleTest {
         assertEquals(4, panel.Creatures.size(), "Deve ter 4 criaturas incluindo a do setUp.");
 
         panel.initSimulation(randi.nextInt(width - CreaturesPanel.CREATURE_SIZE));
-        assertTrue(panel.startSimulation, "Simulação deve ter iniciado.");
+        assertTrue(panel.engine.startSimulation, "Simulação deve ter iniciado.");
         assertTrue(panel.getLast().isGuardian, "Guardião deve ter sido criado.");
         verify(mockUser, times(1)).addSimulations();
         verify(bd, times(1)).editUserByUsername(anyString(), any(User.class));
@@ -101,7 +101,7 @@ public class CreaturesPanelDubleTest {
         panel.phisycsTimer.getActionListeners()[0].actionPerformed(new ActionEvent(this, ActionEvent.ACTION_PERFORMED, null));
 
         when(mockUser.getPoints()).thenReturn(550.0);
-        panel.startSimulation = true;
+        panel.engine.startSimulation = true;
         assertTrue(panel.stopSimulation(), "Devia terminar simulação com vitoria");
     }
 }
\ No newline at end of file
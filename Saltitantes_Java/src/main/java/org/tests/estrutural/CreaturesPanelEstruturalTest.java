@@ -216,7 +216,7 @@ public class CreaturesPanelEstruturalTest {
         Creature victim = new Creature(200, 10, 1, 1, new JLabel());
         panel.Creatures.add(0, victim); // Adiciona vítima antes do guardião
 
-        panel.canUpdate = true;
+        panel.engine.canUpdate = true;
 
         assertFalse(panel.thiefNeighbor(guardian), "Um guardião não deve tentar roubar.");
     }
@@ -323,9 +323,9 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void initSimulation_successfulStartBranch() {
-        panel.startSimulation = false; // Garante que a simulação não está ativa
+        panel.engine.startSimulation = false; // Garante que a simulação não está ativa
         assertTrue(panel.initSimulation(100), "A simulação deve iniciar.");
-        assertTrue(panel.startSimulation, "startSimulation deve ser true.");
+        assertTrue(panel.engine.startSimulation, "startSimulation deve ser true.");
         assertNotNull(panel.phisycsTimer, "phisycsTimer deve ser inicializado.");
         assertNotNull(panel.updateTimer, "updateTimer deve ser inicializado.");
         assertTrue(panel.phisycsTimer.isRunning(), "phisycsTimer deve estar rodando.");
@@ -340,7 +340,7 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void initSimulation_alreadyStartedBranch() {
-        panel.startSimulation = true; // Simula que a simulação já está ativa
+        panel.engine.startSimulation = true; // Simula que a simulação já está ativa
         assertFalse(panel.initSimulation(100), "A simulação não deve iniciar novamente.");
         verify(mockUser, never()).addSimulations();
         verify(bd, never()).editUserByUsername(any(), any());
@@ -351,7 +351,7 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void stopSimulation_notStartedBranch() {
-        panel.startSimulation = false;
+        panel.engine.startSimulation = false;
         assertFalse(panel.stopSimulation(), "Não deve parar se a simulação não começou.");
     }
 
@@ -361,14 +361,14 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void stopSimulation_victoryBranch() {
-        panel.startSimulation = true;
+        panel.engine.startSimulation = true;
         panel.user = mockUser;
         when(mockUser.getPoints()).thenReturn(600.0);
         panel.startPhisycsTimer();
         panel.startUpdateTimer();
 
         assertTrue(panel.stopSimulation(), "stopSimulation deve retornar true para vitória.");
-        assertFalse(panel.startSimulation, "startSimulation deve ser false após parar.");
+        assertFalse(panel.engine.startSimulation, "startSimulation deve ser false após parar.");
         assertFalse(panel.phisycsTimer.isRunning(), "phisycsTimer deve estar parado.");
         assertFalse(panel.updateTimer.isRunning(), "updateTimer deve estar parado.");
         verify(mockUser, times(1)).addSuccesSimulations();
@@ -381,14 +381,14 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void stopSimulation_defeatBranch() {
-        panel.startSimulation = true;
+        panel.engine.startSimulation = true;
         panel.user = mockUser;
         when(mockUser.getPoints()).thenReturn(300.0);
         panel.startPhisycsTimer();
         panel.startUpdateTimer();
 
         assertFalse(panel.stopSimulation(), "stopSimulation deve retornar false para derrota.");
-        assertFalse(panel.startSimulation, "startSimulation deve ser false após parar.");
+        assertFalse(panel.engine.startSimulation, "startSimulation deve ser false após parar.");
         verify(mockUser, never()).addSuccesSimulations();
         verify(mockUser, times(1)).setPoints(eq(0.0));
         verify(bd, times(1)).editUserByUsername(eq(mockUser.getUserName()), eq(mockUser));
@@ -399,7 +399,7 @@ public class CreaturesPanelEstruturalTest {
      */
     @Test
     void checkEndCondition_notStartedBranch() {
-        panel.startSimulation = false;
+        panel.engine.startSimulation = false;
         assertFalse(panel.checkEndCondition(), "checkEndCondition deve retornar false se a simulação não começou.");
     }
 
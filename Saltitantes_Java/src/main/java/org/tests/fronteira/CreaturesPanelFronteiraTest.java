@@ -155,8 +155,8 @@ public class CreaturesPanelFronteiraTest {
         Creature c = panel.getLast();
         c.canMove = true;
         c.target = c.x + 10;
-        panel.startSimulation = true;
-        panel.canUpdate = true;
+        panel.engine.startSimulation = true;
+        panel.engine.canUpdate = true;
 
         int updates = 0;
         int maxUpdates = 1000;
@@ -204,7 +204,7 @@ public class CreaturesPanelFronteiraTest {
         panel.Creatures.add(thief);
         panel.Creatures.add(victim);
 
-        panel.canUpdate = true; // Permite a atualização
+        panel.engine.canUpdate = true; // Permite a atualização
         assertTrue(panel.thiefNeighbor(thief), "Roubo deve ocorrer entre duas criaturas");
         assertEquals(1250, thief.gold, "Ladrão deve ter a metade do ouro da vítima adicionado");
         assertEquals(250, victim.gold, "Vítima deve ter a metade do ouro removido");
@@ -235,7 +235,7 @@ public class CreaturesPanelFronteiraTest {
         panel.Creatures.add(guardianThief);
         panel.Creatures.add(victim);
 
-        panel.canUpdate = true;
+        panel.engine.canUpdate = true;
 
         assertFalse(panel.thiefNeighbor(guardianThief), "Guardiao não deve roubar");
         assertEquals(1000, guardianThief.gold, "Ouro do guardião não deve mudar se ele tentar roubar");
@@ -405,9 +405,9 @@ public class CreaturesPanelFronteiraTest {
     @Test
     void initSimulationBoundaryTests() {
         // Cenário 1: Iniciar simulação pela primeira vez
-        panel.startSimulation = false;
+        panel.engine.startSimulation = false;
         assertTrue(panel.initSimulation(100), "Deve iniciar a simulação pela primeira vez");
-        assertTrue(panel.startSimulation, "startSimulation deve ser true");
+        assertTrue(panel.engine.startSimulation, "startSimulation deve ser true");
         assertNotNull(panel.phisycsTimer, "phisycsTimer deve ser inicializado");
         assertNotNull(panel.updateTimer, "updateTimer deve ser inicializado");
         assertTrue(panel.getLast().isGuardian, "Um guardião deve ser criado");
@@ -415,7 +415,7 @@ public class CreaturesPanelFronteiraTest {
         verify(bd, times(1)).editUserByUsername(eq(mockUser.getUserName()), eq(mockUser));
 
         // Cenário 2: Tentar iniciar simulação novamente quando já está ativa
-        assertTrue(panel.startSimulation);
+        assertTrue(panel.engine.startSimulation);
         assertFalse(panel.initSimulation(100), "Não deve iniciar simulação se já estiver ativa");
         verify(mockUser, times(1)).addSimulations();
         verify(bd, times(1)).editUserByUsername(eq(mockUser.getUserName()), eq(mockUser));
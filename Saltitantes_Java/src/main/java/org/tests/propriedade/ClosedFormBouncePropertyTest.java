@@ -0,0 +1,97 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+/**
+ * Testes de propriedade do pulo calculado ({@link SimulationEngine#setClosedFormBounce(boolean)}):
+ * a altura obtida pela tabela é, em todo tick, a mesma da integração a cada tick.
+ */
+public class ClosedFormBouncePropertyTest {
+
+    /**
+     * Teste de propriedade: simulando lado a lado, {@code bounceY} do motor com o pulo
+     * calculado é igual a {@code y} do motor original em todos os ticks, inclusive para
+     * clusters recém-criados (com ou sem os índices), e ao terminar {@code y} e {@code spdY}
+     * são os mesmos.
+     */
+    @Property(tries = 200)
+    boolean matchesIntegration(@ForAll @LongRange(min = 0, max = 100_000) long seed,
+                               @ForAll @IntRange(min = 2, max = 15) int creatures,
+                               @ForAll boolean indexed) {
+        SimulationEngine integrated = build(seed, creatures, false, indexed);
+        SimulationEngine computed = build(seed, creatures, true, indexed);
+
+        boolean running = true;
+        while (running) {
+            running = integrated.step();
+            if (computed.step() != running || computed.Creatures.size() != integrated.Creatures.size()) {
+                return false;
+            }
+            for (int i = 0; i < integrated.Creatures.size(); i++) {
+                if (computed.bounceY(computed.Creatures.get(i)) != integrated.Creatures.get(i).y) {
+                    return false;
+                }
+            }
+        }
+        integrated.stop();
+        computed.stop();
+        for (int i = 0; i < integrated.Creatures.size(); i++) {
+            Creature a = integrated.Creatures.get(i);
+            Creature b = computed.Creatures.get(i);
+            if (a.y != b.y || a.spdY != b.spdY) {
+                return false;
+            }
+        }
+        return integrated.getPoints() == computed.getPoints();
+    }
+
+    /**
+     * Teste de propriedade: ativar o modo no meio da simulação e desativá-lo depois devolve
+     * {@code y} e {@code spdY} iguais aos da integração.
+     */
+    @Property(tries = 100)
+    boolean toggleKeepsState(@ForAll @LongRange(min = 0, max = 100_000) long seed,
+                             @ForAll @IntRange(min = 0, max = 200) int before,
+                             @ForAll @IntRange(min = 0, max = 200) int during) {
+        SimulationEngine integrated = build(seed, 5, false, false);
+        SimulationEngine computed = build(seed, 5, false, false);
+        for (int i = 0; i < before; i++) {
+            integrated.step();
+            computed.step();
+        }
+        computed.setClosedFormBounce(true);
+        for (int i = 0; i < during; i++) {
+            integrated.step();
+            computed.step();
+        }
+        computed.setClosedFormBounce(false);
+        for (int i = 0; i < integrated.Creatures.size(); i++) {
+            Creature a = integrated.Creatures.get(i);
+            Creature b = computed.Creatures.get(i);
+            if (a.y != b.y || a.spdY != b.spdY) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cria um motor populado e iniciado, com ou sem o pulo calculado e os índices.
+     */
+    private SimulationEngine build(long seed, int creatures, boolean closedForm, boolean indexed) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.setClosedFormBounce(closedForm);
+        engine.setIndexedTheft(indexed);
+        engine.setSweepClustering(indexed);
+        engine.setIndexedGuardian(indexed);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        return engine;
+    }
+}
@@ -0,0 +1,72 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Arbitraries;
+
+import java.util.List;
+
+/**
+ * Testes de propriedade do agrupamento por varredura de
+ * {@link SimulationEngine#setSweepClustering(boolean)}: para qualquer disposição de
+ * criaturas, ele deve produzir exatamente os mesmos clusters que a versão original.
+ */
+public class ClusterSweepPropertyTest {
+
+    /** Largura padrão do painel. */
+    private final int width = 720;
+
+    /** Altura padrão do painel. */
+    private final int height = 480;
+
+    /**
+     * Teste de propriedade: resultado, ordem da lista, posições e ouro são idênticos nos
+     * dois modos de agrupamento.
+     */
+    @Property
+    boolean sweepMatchesOriginal(@ForAll("creaturePositions") List<Integer> positions) {
+        SimulationEngine original = build(positions, false);
+        SimulationEngine sweep = build(positions, true);
+
+        if (original.checkCluster() != sweep.checkCluster()) {
+            return false;
+        }
+        if (original.Creatures.size() != sweep.Creatures.size()) {
+            return false;
+        }
+        for (int i = 0; i < original.Creatures.size(); i++) {
+            Creature a = original.Creatures.get(i);
+            Creature b = sweep.Creatures.get(i);
+            if (a.x != b.x || a.gold != b.gold || a.isCluster != b.isCluster
+                    || a.isGuardian != b.isGuardian || a.target != b.target) {
+                return false;
+            }
+        }
+        return original.getPoints() == sweep.getPoints();
+    }
+
+    /** Cria um motor com criaturas nas posições informadas e o guardião já criado. */
+    private SimulationEngine build(List<Integer> positions, boolean sweepClustering) {
+        SimulationEngine engine = new SimulationEngine(width, height, 11L);
+        engine.setSweepClustering(sweepClustering);
+        for (int pos : positions) {
+            engine.addCreature(pos);
+            engine.getLast().x = pos;
+        }
+        engine.start(0);
+        return engine;
+    }
+
+    @Provide
+    Arbitrary<List<Integer>> creaturePositions() {
+        return Arbitraries.integers().between(0, width - SimulationEngine.CREATURE_SIZE)
+                .list()
+                .ofMinSize(1)
+                .ofMaxSize(25);
+    }
+}
@@ -0,0 +1,98 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+/**
+ * Testes de propriedade do movimento simultâneo de
+ * {@link SimulationEngine#setConcurrentMovement(boolean)}: todas as criaturas liberadas
+ * chegam ao alvo no tempo da mais distante, e a divisão entre os núcleos não altera o
+ * resultado.
+ */
+public class ConcurrentMovementPropertyTest {
+
+    /** Largura padrão do painel. */
+    private final int width = 720;
+
+    /** Altura padrão do painel. */
+    private final int height = 480;
+
+    /**
+     * Teste de propriedade: após liberar as criaturas, a rodada termina com todas no alvo em
+     * no máximo {@code ceil(maior distância / n) + 1} ticks.
+     */
+    @Property
+    boolean roundLastsAsLongAsFarthestCreature(@ForAll @IntRange(min = 2, max = 60) int creatures,
+                                               @ForAll @LongRange(min = 0, max = 10_000) long seed) {
+        SimulationEngine engine = new SimulationEngine(width, height, seed);
+        engine.setConcurrentMovement(true);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        engine.update();
+
+        int n = engine.Creatures.size();
+        int farthest = 0;
+        for (Creature c : engine.Creatures) {
+            if (c.canMove && !c.isGuardian) {
+                farthest = Math.max(farthest, Math.abs(c.target - c.x));
+            }
+        }
+        int limit = (farthest + n - 1) / n + 1;
+
+        int ticks = 0;
+        while (!engine.isCanUpdate()) {
+            engine.phisycsUpdate();
+            if (++ticks > limit) {
+                return false;
+            }
+        }
+        for (Creature c : engine.Creatures) {
+            if (!c.isGuardian && c.x != c.target) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Teste de propriedade: com uma população acima de
+     * {@link SimulationEngine#PARALLEL_MOVEMENT_THRESHOLD}, a simulação completa em paralelo
+     * termina exatamente como a sequencial.
+     */
+    @Property(tries = 5)
+    boolean parallelMatchesSequential(@ForAll @LongRange(min = 0, max = 1_000) long seed) {
+        SimulationEngine sequential = run(seed, false);
+        SimulationEngine parallel = run(seed, true);
+
+        if (sequential.getPoints() != parallel.getPoints()
+                || sequential.getInteractions() != parallel.getInteractions()
+                || sequential.getTicks() != parallel.getTicks()
+                || sequential.Creatures.size() != parallel.Creatures.size()) {
+            return false;
+        }
+        for (int i = 0; i < sequential.Creatures.size(); i++) {
+            Creature a = sequential.Creatures.get(i);
+            Creature b = parallel.Creatures.get(i);
+            if (a.x != b.x || a.gold != b.gold || a.target != b.target) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Executa uma simulação completa no modo simultâneo. */
+    private SimulationEngine run(long seed, boolean parallelMovement) {
+        SimulationEngine engine = new SimulationEngine(width, height, seed);
+        engine.setConcurrentMovement(true);
+        engine.setParallelMovement(parallelMovement);
+        engine.populate(SimulationEngine.PARALLEL_MOVEMENT_THRESHOLD + 100);
+        engine.start(engine.randomX());
+        engine.run();
+        return engine;
+    }
+}
@@ -0,0 +1,62 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+/**
+ * Testes de propriedade do motor por eventos discretos ({@link SimulationEngine#runDiscrete()}):
+ * saltando direto entre os eventos, ele termina exatamente no mesmo estado que o laço por
+ * ticks de {@link SimulationEngine#run()}.
+ */
+public class DiscreteEventPropertyTest {
+
+    /**
+     * Teste de propriedade: para a mesma semente, {@code runDiscrete()} e {@code run()} chegam
+     * aos mesmos pontos, interações, ticks e criaturas (posição, pulo, ouro e estado), com ou
+     * sem os índices de roubo e do guardião.
+     */
+    @Property(tries = 300)
+    boolean sameOutcomeAsTickLoop(@ForAll @LongRange(min = 0, max = 100_000) long seed,
+                                  @ForAll @IntRange(min = 2, max = 15) int creatures,
+                                  @ForAll boolean indexed) {
+        SimulationEngine ticks = build(seed, creatures, indexed);
+        SimulationEngine events = build(seed, creatures, indexed);
+        boolean victory = ticks.run();
+        if (events.runDiscrete() != victory
+                || events.getPoints() != ticks.getPoints()
+                || events.getInteractions() != ticks.getInteractions()
+                || events.getTicks() != ticks.getTicks()
+                || events.moveIndex != ticks.moveIndex
+                || events.Creatures.size() != ticks.Creatures.size()) {
+            return false;
+        }
+        for (int i = 0; i < ticks.Creatures.size(); i++) {
+            Creature a = ticks.Creatures.get(i);
+            Creature b = events.Creatures.get(i);
+            if (a.x != b.x || a.y != b.y || a.spdY != b.spdY || a.gold != b.gold
+                    || a.target != b.target || a.isCluster != b.isCluster || a.isGuardian != b.isGuardian
+                    || a.canMove != b.canMove || a.canTheft != b.canTheft) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Cria um motor populado e iniciado, como em {@code SimulationBatch}.
+     */
+    private SimulationEngine build(long seed, int creatures, boolean indexed) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.setIndexedTheft(indexed);
+        engine.setSweepClustering(indexed);
+        engine.setIndexedGuardian(indexed);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        return engine;
+    }
+}
@@ -0,0 +1,66 @@
+package org.tests.propriedade;
+
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.constraints.IntRange;
+import net.jqwik.api.constraints.LongRange;
+
+/**
+ * Testes de propriedade das rodadas por eventos de
+ * {@link SimulationEngine#setEventDrivenRounds(boolean, int)}: cada atualização lógica
+ * acontece assim que as criaturas param, nunca com criaturas andando e nunca antes do
+ * intervalo mínimo.
+ */
+public class EventDrivenRoundsPropertyTest {
+
+    /**
+     * Teste de propriedade: durante uma simulação completa, toda atualização ocorre em um
+     * tick que começou com todas as criaturas paradas, pelo menos {@code minRoundTicks} ticks
+     * após a anterior, e nenhum tick com as criaturas paradas e o intervalo cumprido passa
+     * sem atualização.
+     */
+    @Property(tries = 200)
+    boolean updatesFollowMovement(@ForAll @LongRange(min = 0, max = 100_000) long seed,
+                                  @ForAll @IntRange(min = 2, max = 15) int creatures,
+                                  @ForAll @IntRange(min = 0, max = 100) int minRoundTicks) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.setEventDrivenRounds(true, minRoundTicks);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+
+        long lastUpdate = 0;
+        boolean running = true;
+        while (running) {
+            boolean stopped = engine.isCanUpdate();
+            int before = engine.getInteractions();
+            running = engine.step();
+            long tick = engine.getTicks();
+            boolean updated = engine.getInteractions() != before;
+            boolean due = stopped && tick - lastUpdate >= minRoundTicks;
+            if (updated != due) {
+                return false;
+            }
+            if (updated) {
+                lastUpdate = tick;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Teste de propriedade: sem intervalo mínimo, a simulação por eventos termina em menos
+     * ticks do que o limite do modo original com o mesmo número de interações.
+     */
+    @Property(tries = 100)
+    boolean finishesBeforeFixedSchedule(@ForAll @LongRange(min = 0, max = 100_000) long seed,
+                                        @ForAll @IntRange(min = 2, max = 15) int creatures) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.setEventDrivenRounds(true, 0);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        engine.run();
+        return engine.getTicks() <= (long) engine.getInteractions() * SimulationEngine.TICKS_PER_UPDATE;
+    }
+}
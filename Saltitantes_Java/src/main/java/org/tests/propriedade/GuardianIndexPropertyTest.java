@@ -0,0 +1,66 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.SimulationEngine;
+
+import net.jqwik.api.Example;
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.constraints.IntRange;
+
+/**
+ * Testes de propriedade da absorção pelo guardião com o {@link org.example.model.ClusterIndex}
+ * ({@link SimulationEngine#setIndexedGuardian(boolean)}): simulações completas com a mesma
+ * semente devem terminar exatamente no mesmo estado com e sem o índice.
+ */
+public class GuardianIndexPropertyTest {
+
+    /**
+     * Teste de propriedade: pontos, interações e estado final das criaturas são iguais
+     * nos dois modos de absorção.
+     */
+    @Property(tries = 200)
+    boolean indexedGuardianMatchesScan(@ForAll long seed, @ForAll @IntRange(min = 2, max = 15) int creatures) {
+        return sameOutcome(seed, creatures);
+    }
+
+    /**
+     * Sementes em que um cluster se funde em outro maior antes de ser absorvido: o cluster
+     * fundido não pode continuar no índice.
+     */
+    @Example
+    boolean mergedClustersLeaveIndex() {
+        return sameOutcome(-5, 12) && sameOutcome(-160, 13) && sameOutcome(228, 14);
+    }
+
+    /** Compara a simulação com e sem o índice. */
+    private boolean sameOutcome(long seed, int creatures) {
+        SimulationEngine scan = run(seed, creatures, false);
+        SimulationEngine indexed = run(seed, creatures, true);
+
+        if (scan.getPoints() != indexed.getPoints() || scan.getInteractions() != indexed.getInteractions()) {
+            return false;
+        }
+        if (scan.Creatures.size() != indexed.Creatures.size()) {
+            return false;
+        }
+        for (int i = 0; i < scan.Creatures.size(); i++) {
+            Creature a = scan.Creatures.get(i);
+            Creature b = indexed.Creatures.get(i);
+            if (a.x != b.x || a.gold != b.gold || a.isCluster != b.isCluster) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Executa uma simulação completa no modo informado. */
+    private SimulationEngine run(long seed, int creatures, boolean indexedGuardian) {
+        SimulationEngine engine = new SimulationEngine(720, 480, seed);
+        engine.setIndexedGuardian(indexedGuardian);
+        engine.populate(creatures);
+        engine.start(engine.randomX());
+        engine.run();
+        return engine;
+    }
+}
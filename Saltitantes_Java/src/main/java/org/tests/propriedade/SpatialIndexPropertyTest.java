@@ -0,0 +1,115 @@
+package org.tests.propriedade;
+
+import org.example.model.Creature;
+import org.example.model.Guardian;
+import org.example.model.SpatialIndex;
+
+import net.jqwik.api.Property;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Provide;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Arbitraries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Testes de propriedade do {@link SpatialIndex}: a vizinha encontrada pelo índice deve ser
+ * sempre a mesma escolhida pela busca linear original de
+ * {@link org.example.model.SimulationEngine#thiefNeighbor(Creature)}.
+ */
+public class SpatialIndexPropertyTest {
+
+    /** Largura padrão do painel. */
+    private final int width = 720;
+
+    /**
+     * Teste de propriedade: para qualquer disposição de criaturas (com repetições de x e um
+     * guardião no fim), o índice recém-construído concorda com a busca linear.
+     */
+    @Property
+    boolean nearestMatchesLinearScan(@ForAll("creaturePositions") List<Integer> positions) {
+        List<Creature> creatures = build(positions);
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(creatures);
+
+        for (int i = 0; i < creatures.size() - 1; i++) {
+            if (index.nearest(i) != linearScan(creatures, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Teste de propriedade: após mover criaturas passo a passo e atualizar o índice com
+     * {@code moved}, ele continua concordando com a busca linear.
+     */
+    @Property
+    boolean nearestMatchesAfterMoves(@ForAll("creaturePositions") List<Integer> positions,
+                                     @ForAll("moves") List<Integer> moves) {
+        List<Creature> creatures = build(positions);
+        SpatialIndex index = new SpatialIndex();
+        index.rebuild(creatures);
+        int normal = creatures.size() - 1;
+
+        for (int m : moves) {
+            int i = Math.abs(m) % normal;
+            Creature c = creatures.get(i);
+            c.x = Math.max(0, Math.min(width - 50, c.x + (m % 2 == 0 ? 1 : -1)));
+            index.moved(i);
+        }
+
+        for (int i = 0; i < normal; i++) {
+            if (index.nearest(i) != linearScan(creatures, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Cria as criaturas nas posições informadas, com um guardião no fim. */
+    private List<Creature> build(List<Integer> positions) {
+        List<Creature> creatures = new ArrayList<>();
+        for (int x : positions) {
+            creatures.add(new Creature(x, 0, 1, 0, null));
+        }
+        Guardian guardian = new Guardian(positions.getFirst(), 0, 1, 0, null);
+        creatures.add(guardian);
+        return creatures;
+    }
+
+    /** Mesma regra de escolha da vítima da busca linear original. */
+    private int linearScan(List<Creature> creatures, int thiefIndex) {
+        Creature thief = creatures.get(thiefIndex);
+        int closerIndex = -1;
+        int closest = Integer.MAX_VALUE;
+        for (int i = 0; i < creatures.size(); i++) {
+            Creature neighbor = creatures.get(i);
+            if (neighbor != thief && !neighbor.isGuardian) {
+                int d = Math.abs(thief.x - neighbor.x);
+                if (d <= closest) {
+                    closest = d;
+                    closerIndex = i;
+                }
+            }
+        }
+        return closerIndex;
+    }
+
+    @Provide
+    Arbitrary<List<Integer>> creaturePositions() {
+        // Faixa estreita para gerar muitos empates de posição e distância
+        return Arbitraries.integers().between(0, 40)
+                .list()
+                .ofMinSize(2)
+                .ofMaxSize(30);
+    }
+
+    @Provide
+    Arbitrary<List<Integer>> moves() {
+        return Arbitraries.integers().between(0, 1000)
+                .list()
+                .ofMaxSize(200);
+    }
+}